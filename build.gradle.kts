@@ -31,6 +31,7 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-security")
 	implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
 	implementation("org.springframework.boot:spring-boot-starter-web")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
 	implementation("org.thymeleaf.extras:thymeleaf-extras-springsecurity6")
 	testImplementation ("org.springframework.boot:spring-boot-starter-test")
 
@@ -38,6 +39,7 @@ dependencies {
 	implementation("software.amazon.awssdk:s3:2.20.89")
 	implementation("software.amazon.awssdk:auth:2.20.89")
 	implementation("software.amazon.awssdk:regions:2.20.89")
+	implementation("software.amazon.awssdk:netty-nio-client:2.20.89")
 
 	compileOnly("org.projectlombok:lombok")
 	runtimeOnly("com.mysql:mysql-connector-j")
@@ -46,6 +48,9 @@ dependencies {
 	testImplementation("org.springframework.security:spring-security-test")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 
+	// 좋아요 사용자 비트맵
+	implementation("org.roaringbitmap:RoaringBitmap:1.3.0")
+
 	// jwt 의존성
 	implementation("io.jsonwebtoken:jjwt-api:0.12.3")
 	implementation("io.jsonwebtoken:jjwt-impl:0.12.3")
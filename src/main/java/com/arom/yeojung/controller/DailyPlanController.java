@@ -5,6 +5,7 @@ import com.arom.yeojung.object.dto.DailyPlanResponseDTO;
 import com.arom.yeojung.object.DailyPlan;
 import com.arom.yeojung.object.TotalPlan;
 import com.arom.yeojung.object.User;
+import com.arom.yeojung.object.dto.user.CustomUserDetails;
 import com.arom.yeojung.repository.DailyPlanRepository;
 import com.arom.yeojung.repository.TotalPlanRepository;
 import com.arom.yeojung.service.DailyPlanService;
@@ -43,7 +44,8 @@ public class DailyPlanController {
     public ResponseEntity<List<DailyPlanResponseDTO>> createDailyPlans(
         @PathVariable Long totalPlanId,
         @RequestBody @Valid DailyPlanRequestDTO requestDTO,
-        @AuthenticationPrincipal User currentUser) {
+        @AuthenticationPrincipal CustomUserDetails userDetails) {
+        User currentUser = userDetails == null ? null : userDetails.getUser();
         List<DailyPlanResponseDTO> responses = dailyPlanService.createDailyPlansForTotalPlan(totalPlanId, requestDTO, currentUser);
         return ResponseEntity.status(HttpStatus.CREATED).body(responses);
     }
@@ -55,7 +57,8 @@ public class DailyPlanController {
             @PathVariable Long totalPlanId,
             @PathVariable Long dailyPlanId,
             @RequestBody @Valid DailyPlanRequestDTO requestDTO,
-            @AuthenticationPrincipal User currentUser) {
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        User currentUser = userDetails == null ? null : userDetails.getUser();
         DailyPlanResponseDTO response = dailyPlanService.updateDailyPlan(totalPlanId, dailyPlanId, requestDTO, currentUser);
         return ResponseEntity.ok(response);
     }
@@ -65,7 +68,8 @@ public class DailyPlanController {
     public ResponseEntity<Void> deleteDailyPlan(
             @PathVariable Long totalPlanId,
             @PathVariable Long dailyPlanId,
-            @AuthenticationPrincipal User currentUser) {
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        User currentUser = userDetails == null ? null : userDetails.getUser();
         dailyPlanService.deleteDailyPlan(totalPlanId, dailyPlanId, currentUser);
         return ResponseEntity.noContent().build();
     }
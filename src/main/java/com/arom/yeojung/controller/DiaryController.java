@@ -3,11 +3,15 @@ package com.arom.yeojung.controller;
 import com.arom.yeojung.object.DiaryStatus;
 import com.arom.yeojung.object.File;
 import com.arom.yeojung.object.User;
+import com.arom.yeojung.object.dto.DiaryContentBatchRequestDto;
 import com.arom.yeojung.object.dto.DiaryContentDto;
 import com.arom.yeojung.object.dto.DiaryDto;
+import com.arom.yeojung.object.dto.DiaryFeedPageDto;
+import com.arom.yeojung.object.dto.user.CustomUserDetails;
 import com.arom.yeojung.service.DiaryContentService;
 import com.arom.yeojung.service.DiaryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -24,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -45,10 +50,15 @@ public class DiaryController {
         return ResponseEntity.ok(diaryService.getDiary(diaryId));
     }
 
-    //모든 다이어리 조회
+    //다이어리 피드 조회 (공개 다이어리, 커서 기반 페이지네이션)
     @GetMapping
-    public ResponseEntity<List<DiaryDto>> getAllDiaries() {
-        return ResponseEntity.ok(diaryService.getAllDiary());
+    public ResponseEntity<DiaryFeedPageDto> getDiaryFeed(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedDate,
+            @RequestParam(required = false) Long cursorDiaryId,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long currentUserId = userDetails == null ? null : userDetails.getUserId();
+        return ResponseEntity.ok(diaryService.getDiaryFeed(cursorCreatedDate, cursorDiaryId, size, currentUserId));
     }
 
     //다이어리 수정 Update
@@ -163,6 +173,16 @@ public class DiaryController {
         return ResponseEntity.ok().build();
     }
 
+    //컨텐츠 여러 건 추가/수정/이동/삭제를 한 번에 적용하고 변경된 컨텐츠 목록 반환
+    @PatchMapping("/{diaryId}/contents")
+    public ResponseEntity<List<DiaryContentDto>> applyContentOperations(
+            @PathVariable Long diaryId,
+            @RequestBody DiaryContentBatchRequestDto request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        User currentUser = userDetails == null ? null : userDetails.getUser();
+        return ResponseEntity.ok(diaryContentService.applyContentOperations(diaryId, request.getOperations(), currentUser));
+    }
+
     //다이어리에서 특정 diaryContent 삭제
     @DeleteMapping("/{diaryId}/contents/{contentId}")
     public ResponseEntity<String> deleteDiaryContent(
@@ -2,14 +2,27 @@ package com.arom.yeojung.controller;
 
 
 import com.arom.yeojung.object.File;
+import com.arom.yeojung.object.User;
+import com.arom.yeojung.object.dto.PresignedUploadRequestDto;
+import com.arom.yeojung.object.dto.PresignedUploadResponseDto;
+import com.arom.yeojung.object.dto.SignedFileUrlDto;
+import com.arom.yeojung.object.dto.user.CustomUserDetails;
 import com.arom.yeojung.service.FileS3UploadService;
 import com.arom.yeojung.service.FileService;
+import com.arom.yeojung.service.FileUrlService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 @RestController
 @RequestMapping("/file")
@@ -18,11 +31,16 @@ public class FileController {
 
     private final FileS3UploadService fileS3UploadService;
     private final FileService fileService;
+    private final FileUrlService fileUrlService;
 
     //이미지 업로드
     //예외처리 사용자 예외 처리로 변환
     @PostMapping("/upload/image")
     public ResponseEntity<File> uploadImage(@RequestParam("file") MultipartFile file) throws IOException {
+        //비동기 업로드 모드: 업로드 중(PENDING)인 파일을 바로 반환
+        if (fileS3UploadService.isAsyncUpload()) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(fileS3UploadService.uploadAndSaveFileAsync(file));
+        }
         File imgfile = fileS3UploadService.uploadAndSaveFile(file);
         //fileService.save(imageUrl, fileName);
         return ResponseEntity.ok(imgfile);
@@ -31,21 +49,64 @@ public class FileController {
     //비디오 업로드
     @PostMapping("/upload/video")
     public ResponseEntity<File> uploadVideo(@RequestParam("file") MultipartFile file) throws IOException {
+        if (fileS3UploadService.isAsyncUpload()) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(fileS3UploadService.uploadAndSaveFileAsync(file));
+        }
         File videofile = fileS3UploadService.uploadAndSaveFile(file);
         //fileService.save(fileName, videoUrl);
         return ResponseEntity.ok(videofile);
     }
 
+    //비디오 스트리밍 업로드 (요청 본문이 파일 자체, 파일 이름은 X-File-Name 헤더에 URL 인코딩하여 전달)
+    @PutMapping("/upload/video/stream")
+    public ResponseEntity<File> uploadVideoStream(@RequestHeader("X-File-Name") String fileName,
+                                                  @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                  HttpServletRequest request) throws IOException {
+        File videofile = fileS3UploadService.uploadAndSaveStream(request.getInputStream(),
+                URLDecoder.decode(fileName, StandardCharsets.UTF_8), contentType);
+        return ResponseEntity.ok(videofile);
+    }
+
+    //S3 직접 업로드 URL 발급 (파일은 응답의 uploadUrl 로 클라이언트가 직접 PUT)
+    @PostMapping("/upload/presigned")
+    public ResponseEntity<PresignedUploadResponseDto> createPresignedUpload(
+            @RequestBody PresignedUploadRequestDto request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        User currentUser = userDetails == null ? null : userDetails.getUser();
+        return ResponseEntity.ok(fileS3UploadService.createPresignedUpload(request, currentUser));
+    }
+
+    //S3 직접 업로드 완료 확인 (업로드 URL 을 발급받은 사용자만)
+    @PostMapping("/upload/presigned/{fileId}/confirm")
+    public ResponseEntity<File> confirmPresignedUpload(@PathVariable Long fileId,
+                                                       @AuthenticationPrincipal CustomUserDetails userDetails) {
+        User currentUser = userDetails == null ? null : userDetails.getUser();
+        return ResponseEntity.ok(fileS3UploadService.confirmPresignedUpload(fileId, currentUser));
+    }
+
     //파일 가져오기
     @GetMapping("/download/{fileId}")
     public ResponseEntity<File> getFileUrl(@PathVariable Long fileId) {
         return ResponseEntity.ok(fileService.getFile(fileId));
     }
 
+    //파일 조회용 서명 URL (만료 전까지 캐시된 URL 재사용, 공개 fileUrl 과 같은 객체이므로 열람 권한은 확인하지 않음)
+    @GetMapping("/{fileId}/url")
+    public ResponseEntity<SignedFileUrlDto> getSignedUrl(@PathVariable Long fileId) {
+        return ResponseEntity.ok(fileUrlService.getSignedUrl(fileId));
+    }
+
+    //여러 파일의 서명 URL을 한 번에 조회 (다이어리 컨텐츠 페이지 렌더링용)
+    @PostMapping("/urls")
+    public ResponseEntity<List<SignedFileUrlDto>> getSignedUrls(@RequestBody List<Long> fileIds) {
+        return ResponseEntity.ok(fileUrlService.getSignedUrls(fileIds));
+    }
+
     //DB에서 파일 삭제
     @DeleteMapping("/{fileId}")
     public ResponseEntity<String> deleteFile(@PathVariable Long fileId) {
         fileService.deleteFile(fileId);
+        fileUrlService.evict(fileId);
         return ResponseEntity.ok("File deleted");
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.arom.yeojung.controller;
 
 import com.arom.yeojung.object.User;
 import com.arom.yeojung.object.dto.LikeDto;
+import com.arom.yeojung.object.dto.user.CustomUserDetails;
 import com.arom.yeojung.service.LikeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -20,10 +21,18 @@ public class LikeController {
         return ResponseEntity.ok(likeService.createLike(likeDto));
     }
 
+    //좋아요 상태 변경 (liked=true 좋아요, false 좋아요 취소, 반복 요청해도 결과 동일)
+    @PutMapping("/{diaryId}")
+    public ResponseEntity<LikeDto> setLike(@PathVariable Long diaryId, @RequestParam boolean liked,
+                                           @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(likeService.setLike(userDetails.getUserId(), diaryId, liked));
+    }
+
     //좋아요 삭제
     @DeleteMapping
     public ResponseEntity<String> deleteLike(@RequestBody LikeDto likeDto,
-                                             @AuthenticationPrincipal User currentUser) {
+                                             @AuthenticationPrincipal CustomUserDetails userDetails) {
+        User currentUser = userDetails == null ? null : userDetails.getUser();
         return ResponseEntity.ok(likeService.deleteLike(likeDto, currentUser));
     }
 }
@@ -1,6 +1,7 @@
 package com.arom.yeojung.controller;
 
 import com.arom.yeojung.object.User;
+import com.arom.yeojung.object.dto.user.CustomUserDetails;
 import com.arom.yeojung.object.dto.SubPlanRequestDTO;
 import com.arom.yeojung.object.dto.SubPlanResponseDTO;
 import com.arom.yeojung.service.SubPlanService;
@@ -42,7 +43,8 @@ public class SubPlanController {
   public ResponseEntity<SubPlanResponseDTO> createSubPlan(@PathVariable Long totalPlanId,
       @PathVariable Long dailyPlanId,
       @RequestBody @Valid SubPlanRequestDTO requestDTO,
-      @AuthenticationPrincipal User currentUser) {
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    User currentUser = userDetails == null ? null : userDetails.getUser();
     SubPlanResponseDTO response = subPlanService.createSubPlan(totalPlanId, dailyPlanId, requestDTO, currentUser);
     return ResponseEntity.status(HttpStatus.CREATED).body(response);
   }
@@ -53,7 +55,8 @@ public class SubPlanController {
       @PathVariable Long dailyPlanId,
       @PathVariable Long subPlanId,
       @RequestBody @Valid SubPlanRequestDTO requestDTO,
-      @AuthenticationPrincipal User currentUser) {
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    User currentUser = userDetails == null ? null : userDetails.getUser();
     SubPlanResponseDTO response = subPlanService.updateSubPlan(totalPlanId, dailyPlanId, subPlanId, requestDTO, currentUser);
     return ResponseEntity.ok(response);
   }
@@ -63,7 +66,8 @@ public class SubPlanController {
   public ResponseEntity<Void> deleteSubPlan(@PathVariable Long totalPlanId,
       @PathVariable Long dailyPlanId,
       @PathVariable Long subPlanId,
-      @AuthenticationPrincipal User currentUser) {
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    User currentUser = userDetails == null ? null : userDetails.getUser();
     subPlanService.deleteSubPlan(totalPlanId, dailyPlanId, subPlanId, currentUser);
     return ResponseEntity.noContent().build();
   }
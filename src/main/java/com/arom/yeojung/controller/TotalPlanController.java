@@ -2,21 +2,27 @@ package com.arom.yeojung.controller;
 
 import com.arom.yeojung.object.dto.TotalPlanRequestDTO;
 import com.arom.yeojung.object.dto.TotalPlanResponseDTO;
+import com.arom.yeojung.object.dto.TripSnapshotResponseDTO;
+import com.arom.yeojung.object.dto.TripSummaryPageDTO;
 import com.arom.yeojung.service.TotalPlanService;
+import com.arom.yeojung.service.TripSnapshotService;
 import com.arom.yeojung.object.User;
+import com.arom.yeojung.object.dto.user.CustomUserDetails;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import jakarta.validation.Valid;
-import java.util.List;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.web.bind.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -24,6 +30,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class TotalPlanController {
   private final TotalPlanService totalPlanService;
+  private final TripSnapshotService tripSnapshotService;
 
   // 단일 TotalPlan 조회
   @GetMapping("/{totalPlanId}")
@@ -32,18 +39,34 @@ public class TotalPlanController {
     return ResponseEntity.ok(response);
   }
 
-  // 모든 TotalPlan 조회
+  // 여행 전체 스냅샷 조회 (일차별 세부 일정과 예산 포함)
+  @GetMapping("/{totalPlanId}/snapshot")
+  public ResponseEntity<TripSnapshotResponseDTO> getTripSnapshot(
+      @PathVariable Long totalPlanId,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    User currentUser = userDetails == null ? null : userDetails.getUser();
+    TripSnapshotResponseDTO response = tripSnapshotService.getTripSnapshot(totalPlanId, currentUser);
+    return ResponseEntity.ok(response);
+  }
+
+  // 내가 참여한 TotalPlan 목록 조회 (시작일 최신순, 커서 기반 페이지네이션)
   @GetMapping
-  public ResponseEntity<List<TotalPlanResponseDTO>> getAllTotalPlans() {
-    List<TotalPlanResponseDTO> responses = totalPlanService.getAllTotalPlans();
-    return ResponseEntity.ok(responses);
+  public ResponseEntity<TripSummaryPageDTO> getMyTrips(
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursorStartDate,
+      @RequestParam(required = false) Long cursorTotalPlanId,
+      @RequestParam(defaultValue = "20") int size,
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    User currentUser = userDetails == null ? null : userDetails.getUser();
+    TripSummaryPageDTO response = totalPlanService.getMyTrips(cursorStartDate, cursorTotalPlanId, size, currentUser);
+    return ResponseEntity.ok(response);
   }
 
   // TotalPlan 생성
   @PostMapping
   public ResponseEntity<TotalPlanResponseDTO> createTotalPlan(
       @RequestBody @Valid TotalPlanRequestDTO requestDTO,
-      @AuthenticationPrincipal User currentUser) {
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    User currentUser = userDetails == null ? null : userDetails.getUser();
     TotalPlanResponseDTO response = totalPlanService.createTotalPlan(requestDTO, currentUser);
     return ResponseEntity.status(HttpStatus.CREATED).body(response);
   }
@@ -53,7 +76,8 @@ public class TotalPlanController {
   public ResponseEntity<TotalPlanResponseDTO> updateTotalPlan(
       @PathVariable Long totalPlanId,
       @RequestBody @Valid TotalPlanRequestDTO requestDTO,
-      @AuthenticationPrincipal User currentUser) {
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    User currentUser = userDetails == null ? null : userDetails.getUser();
     TotalPlanResponseDTO response = totalPlanService.updateTotalPlan(totalPlanId, requestDTO, currentUser);
     return ResponseEntity.ok(response);
   }
@@ -62,7 +86,8 @@ public class TotalPlanController {
   @DeleteMapping("/{totalPlanId}")
   public ResponseEntity<Void> deleteTotalPlan(
       @PathVariable Long totalPlanId,
-      @AuthenticationPrincipal User currentUser) {
+      @AuthenticationPrincipal CustomUserDetails userDetails) {
+    User currentUser = userDetails == null ? null : userDetails.getUser();
     totalPlanService.deleteTotalPlan(totalPlanId, currentUser);
     return ResponseEntity.noContent().build();
   }
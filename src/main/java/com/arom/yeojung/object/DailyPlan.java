@@ -6,14 +6,23 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDate;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Filter;
 
 @Entity
+@Table(indexes = {
+    //여행 계획별 일차 조회용 (total_plan_id, is_deleted 필터 후 trip_day_number 순)
+    @Index(name = "idx_daily_plan_total_plan", columnList = "total_plan_id, is_deleted, trip_day_number"),
+    @Index(name = "idx_daily_plan_deleted", columnList = "is_deleted, updated_date")
+})
+@Filter(name = TotalPlan.NOT_DELETED_FILTER)
 @Getter
 @Setter
 @NoArgsConstructor
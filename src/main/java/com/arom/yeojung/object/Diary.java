@@ -9,7 +9,12 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Entity
-@Table(name = "diary")
+@Table(name = "diary", indexes = {
+        //피드 조회용 (status, is_deleted 필터 후 created_date, diary_id 역순 커서)
+        @Index(name = "idx_diary_feed", columnList = "status, is_deleted, created_date, diary_id"),
+        //썸네일 외래 키용 (여러 다이어리가 같은 파일을 공유하므로 고유 인덱스가 아님)
+        @Index(name = "idx_diary_thumbnail_file", columnList = "thumbnail_file_file_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,8 +42,8 @@ public class Diary extends BaseTimeEntity{
     //좋아요 수
     private Long likeCount;
 
-    //썸네일 파일
-    @OneToOne
+    //썸네일 파일 (컨텐츠 이미지와 같은 파일을 공유할 수 있음)
+    @ManyToOne
     private File thumbnailFile;
 
     //현재 다이어리의 상태
@@ -7,7 +7,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "diary_content")
+@Table(name = "diary_content", indexes = {
+        //파일 외래 키용 (여러 컨텐츠가 같은 파일을 공유하므로 고유 인덱스가 아님)
+        @Index(name = "idx_diary_content_file", columnList = "file_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,8 +33,8 @@ public class DiaryContent extends BaseTimeEntity {
     @Column(columnDefinition = "TEXT")
     private String content;
 
-    //File 엔티티와 연결
-    @OneToOne(cascade = CascadeType.ALL, orphanRemoval = true)
+    //File 엔티티와 연결 (같은 내용의 파일은 여러 컨텐츠가 공유하므로 컨텐츠를 지워도 파일은 지우지 않음)
+    @ManyToOne(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinColumn(name = "file_Id")
     private File file;
     //콘텐츠의 순서
@@ -40,6 +43,7 @@ public class DiaryContent extends BaseTimeEntity {
     //DiaryContent -> DiaryContentDto로 변환
     public static DiaryContentDto EntityToDto(DiaryContent diaryContent) {
         DiaryContentDto dto = new DiaryContentDto();
+        dto.setDiaryContentId(diaryContent.getDiaryContentId());
         dto.setDiaryId(diaryContent.getDiary().getDiaryId());
         dto.setContentType(diaryContent.getContentType());
 
@@ -47,6 +51,7 @@ public class DiaryContent extends BaseTimeEntity {
             dto.setContent(diaryContent.getContent());
         } else {
             dto.setFileId(diaryContent.getFile().getFileId());
+            dto.setFileUrl(diaryContent.getFile().getFileUrl());
         }
         dto.setSequence(diaryContent.getSequence());
         return dto;
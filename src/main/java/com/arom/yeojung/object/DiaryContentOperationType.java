@@ -0,0 +1,9 @@
+package com.arom.yeojung.object;
+
+//다이어리 컨텐츠 일괄 수정 작업 종류
+public enum DiaryContentOperationType {
+    INSERT,
+    UPDATE,
+    MOVE,
+    DELETE
+}
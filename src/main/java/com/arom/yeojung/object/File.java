@@ -1,9 +1,15 @@
 package com.arom.yeojung.object;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -11,6 +17,9 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_file_content_hash", columnNames = {"content_hash"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,4 +31,27 @@ public class File extends BaseTimeEntity {
 
     private String fileName;
     private String fileUrl;
+
+    //업로드 상태 (상태 컬럼이 없던 기존 파일은 null -> 업로드 완료로 취급)
+    @Enumerated(EnumType.STRING)
+    private FileStatus status = FileStatus.READY;
+
+    //변형 이미지 URL (이미지가 아니거나 아직 만들어지지 않았으면 null)
+    private String smallVariantUrl;
+    private String mediumVariantUrl;
+    private String largeVariantUrl;
+
+    //내용의 SHA-256 해시 (같은 내용의 업로드는 이 행을 공유, 해시가 없던 기존 파일은 null)
+    @Column(length = 64)
+    private String contentHash;
+
+    //presigned 업로드를 예약한 사용자와 예약 시 받은 형식, 크기 (업로드 확인 시 비교, 다른 업로드는 null)
+    @JsonIgnore
+    private Long uploaderId;
+    private String contentType;
+    private Long expectedSize;
+
+    public boolean isReady() {
+        return status == null || status == FileStatus.READY;
+    }
 }
\ No newline at end of file
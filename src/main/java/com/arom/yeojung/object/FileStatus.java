@@ -0,0 +1,8 @@
+package com.arom.yeojung.object;
+
+//파일 업로드 상태 (비동기 업로드는 PENDING 으로 저장된 뒤 완료 시 READY 또는 FAILED)
+public enum FileStatus {
+    PENDING,
+    READY,
+    FAILED
+}
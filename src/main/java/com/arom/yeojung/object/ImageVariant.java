@@ -0,0 +1,15 @@
+package com.arom.yeojung.object;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+//업로드한 이미지에서 만드는 변형 이미지 크기 (긴 변 기준 픽셀)
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    SMALL(160),
+    MEDIUM(480),
+    LARGE(1080);
+
+    private final int maxEdge;
+}
@@ -10,7 +10,10 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "likes")
+@Table(name = "likes", uniqueConstraints = {
+        //한 사용자는 한 다이어리에 한 번만 좋아요 가능
+        @UniqueConstraint(name = "uk_likes_user_diary", columnNames = {"user_id", "diary_id"})
+})
 public class Like extends BaseTimeEntity{
 
     @Id
@@ -7,18 +7,27 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.time.LocalTime;
 import java.util.HashSet;
 import java.util.Set;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Filter;
 
 @Entity
+@Table(indexes = {
+    //일차별 세부 일정 조회용 (daily_plan_id, is_deleted 필터 후 sub_plan_time 순)
+    @Index(name = "idx_sub_plan_daily_plan", columnList = "daily_plan_id, is_deleted, sub_plan_time"),
+    @Index(name = "idx_sub_plan_deleted", columnList = "is_deleted, updated_date")
+})
+@Filter(name = TotalPlan.NOT_DELETED_FILTER)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -5,7 +5,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import java.math.BigInteger;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -13,13 +15,25 @@ import java.util.List;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
 
 @Entity
+@Table(indexes = {
+    //소프트 딜리트된 행 정리용 (is_deleted 필터 후 updated_date 범위 조회)
+    @Index(name = "idx_total_plan_deleted", columnList = "is_deleted, updated_date")
+})
+// 소프트 딜리트된 행을 조회 쿼리(JPQL, Criteria)에서 제외하는 필터 (모든 세션에서 자동 활성화)
+// id 로 직접 조회하는 경우에는 적용되지 않으므로 findById 후 isDeleted 검사는 그대로 동작함
+@FilterDef(name = TotalPlan.NOT_DELETED_FILTER, defaultCondition = "is_deleted = false", autoEnabled = true)
+@Filter(name = TotalPlan.NOT_DELETED_FILTER)
 @Getter
 @Setter
 @NoArgsConstructor
 public class TotalPlan extends BaseTimeEntity {
 
+  public static final String NOT_DELETED_FILTER = "notDeleted";
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long totalPlanId;
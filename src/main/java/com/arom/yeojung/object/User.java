@@ -37,4 +37,12 @@ public class User extends BaseTimeEntity{
 
   // 프로필 사진 URL
   private String profileImageUrl;
+
+  // 토큰에 담긴 사용자 정보의 버전 (닉네임, 프로필 변경 시 증가)
+  @Builder.Default
+  private Long tokenVersion = 0L;
+
+  public void increaseTokenVersion() {
+    tokenVersion = (tokenVersion == null ? 0L : tokenVersion) + 1;
+  }
 }
@@ -9,8 +9,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,6 +23,8 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+// 권한 검증 시 (user_id, totalPlan_id) 로 역할을 인덱스만으로 조회
+@Table(indexes = @Index(name = "idx_user_plan_user_plan_role", columnList = "user_id, total_plan_id, role"))
 public class UserPlan extends BaseTimeEntity {
 
   @Id
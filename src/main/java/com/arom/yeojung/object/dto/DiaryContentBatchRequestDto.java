@@ -0,0 +1,16 @@
+package com.arom.yeojung.object.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//다이어리 컨텐츠 일괄 수정 요청 (작업은 목록 순서대로 적용)
+@Getter
+@Setter
+@NoArgsConstructor
+public class DiaryContentBatchRequestDto {
+    private List<DiaryContentOperationDto> operations = new ArrayList<>();
+}
@@ -2,17 +2,35 @@ package com.arom.yeojung.object.dto;
 
 import com.arom.yeojung.object.ContentType;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class DiaryContentDto {
+    //컨텐츠 아이디
+    private Long diaryContentId;
     //다이어리 아이디
     private Long diaryId;
     private ContentType contentType;
     private String content;
     //파일 아이디
     private Long fileId;
+    //파일 URL
+    private String fileUrl;
     //콘텐츠의 순서
     private Long sequence;
-}
\ No newline at end of file
+
+    //컨텐츠 목록 조회 프로젝션용 생성자
+    public DiaryContentDto(Long diaryContentId, Long diaryId, ContentType contentType, String content,
+                           Long fileId, String fileUrl, Long sequence) {
+        this.diaryContentId = diaryContentId;
+        this.diaryId = diaryId;
+        this.contentType = contentType;
+        this.content = content;
+        this.fileId = fileId;
+        this.fileUrl = fileUrl;
+        this.sequence = sequence;
+    }
+}
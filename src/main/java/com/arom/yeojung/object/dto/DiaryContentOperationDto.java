@@ -0,0 +1,26 @@
+package com.arom.yeojung.object.dto;
+
+import com.arom.yeojung.object.ContentType;
+import com.arom.yeojung.object.DiaryContentOperationType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+//다이어리 컨텐츠 일괄 수정의 작업 하나
+@Getter
+@Setter
+@NoArgsConstructor
+public class DiaryContentOperationDto {
+    //작업 종류
+    private DiaryContentOperationType type;
+    //대상 컨텐츠 아이디 (UPDATE, MOVE, DELETE)
+    private Long diaryContentId;
+    //컨텐츠 종류 (INSERT)
+    private ContentType contentType;
+    //텍스트/링크 내용 (INSERT, UPDATE)
+    private String content;
+    //미디어 파일 아이디 (INSERT, UPDATE)
+    private Long fileId;
+    //넣거나 옮길 위치, 1부터 시작 (INSERT, MOVE), INSERT 에서 없으면 맨 뒤
+    private Long sequence;
+}
@@ -0,0 +1,39 @@
+package com.arom.yeojung.object.dto;
+
+import com.arom.yeojung.object.DiaryStatus;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+// 다이어리 피드 한 건 (피드에 필요한 컬럼만 프로젝션으로 조회)
+@Getter
+@Setter
+public class DiaryFeedDto {
+
+    private Long diaryId;
+    private Long userId;
+    private String title;
+    private Long viewCount;
+    private Long commentCount;
+    private Long likeCount;
+    private DiaryStatus status;
+    private LocalDateTime createdDate;
+    //썸네일 파일 URL
+    private String thumbnailUrl;
+    //현재 사용자의 좋아요 여부
+    private Boolean likedByMe;
+
+    //피드 조회 프로젝션용 생성자
+    public DiaryFeedDto(Long diaryId, Long userId, String title, Long viewCount, Long commentCount,
+                        Long likeCount, DiaryStatus status, LocalDateTime createdDate, String thumbnailUrl) {
+        this.diaryId = diaryId;
+        this.userId = userId;
+        this.title = title;
+        this.viewCount = viewCount;
+        this.commentCount = commentCount;
+        this.likeCount = likeCount;
+        this.status = status;
+        this.createdDate = createdDate;
+        this.thumbnailUrl = thumbnailUrl;
+    }
+}
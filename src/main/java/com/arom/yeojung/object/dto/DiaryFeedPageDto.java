@@ -0,0 +1,18 @@
+package com.arom.yeojung.object.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 다이어리 피드 페이지 (다음 페이지 조회용 커서 포함)
+@Getter
+@AllArgsConstructor
+public class DiaryFeedPageDto {
+
+    private List<DiaryFeedDto> diaries;
+    //다음 페이지 커서 (createdDate, diaryId), 마지막 페이지면 null
+    private LocalDateTime nextCursorCreatedDate;
+    private Long nextCursorDiaryId;
+    private boolean hasNext;
+}
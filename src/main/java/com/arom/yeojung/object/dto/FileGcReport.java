@@ -0,0 +1,25 @@
+package com.arom.yeojung.object.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+//고아 파일 정리 결과 (dry-run 이면 삭제 대상만 집계)
+@Getter
+@Builder
+@AllArgsConstructor
+public class FileGcReport {
+    private boolean dryRun;
+    //참조가 없는 파일 수
+    private long orphanFiles;
+    //삭제한 파일 행 수
+    private long deletedFiles;
+    //삭제한(dry-run 이면 삭제할) S3 객체 수
+    private long deletedObjects;
+    //삭제에 실패한 S3 객체 수
+    private long failedObjects;
+    //삭제 대상 객체 키 일부
+    private List<String> sampleKeys;
+}
@@ -8,4 +8,6 @@ import lombok.Setter;
 public class LikeDto {
     private Long userId;
     private Long diaryId;
+    //좋아요 상태 (true: 좋아요, false: 좋아요 취소)
+    private Boolean liked;
 }
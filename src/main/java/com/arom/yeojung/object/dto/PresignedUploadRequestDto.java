@@ -0,0 +1,17 @@
+package com.arom.yeojung.object.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+//presigned 업로드 URL 발급 요청
+@Getter
+@Setter
+@NoArgsConstructor
+public class PresignedUploadRequestDto {
+    //원본 파일 이름
+    private String fileName;
+    private String contentType;
+    //업로드할 파일 크기 (바이트, URL 서명에 포함되어 다른 크기는 S3 에서 거절)
+    private Long size;
+}
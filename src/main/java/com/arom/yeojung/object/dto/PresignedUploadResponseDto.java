@@ -0,0 +1,22 @@
+package com.arom.yeojung.object.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+//presigned 업로드 URL 발급 결과 (uploadUrl 로 PUT 한 뒤 fileId 로 업로드 확인 요청)
+@Getter
+@Builder
+@AllArgsConstructor
+public class PresignedUploadResponseDto {
+    //업로드 대기 중(PENDING)인 파일 아이디
+    private Long fileId;
+    private String uploadUrl;
+    //PUT 요청에 그대로 보내야 하는 헤더
+    private Map<String, List<String>> headers;
+    private Instant expiresAt;
+}
@@ -0,0 +1,15 @@
+package com.arom.yeojung.object.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+//파일 조회용 서명 URL (expiresAt 이후에는 다시 발급 받아야 함)
+@Getter
+@AllArgsConstructor
+public class SignedFileUrlDto {
+    private Long fileId;
+    private String url;
+    private Instant expiresAt;
+}
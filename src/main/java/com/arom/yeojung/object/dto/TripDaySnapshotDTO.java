@@ -0,0 +1,21 @@
+package com.arom.yeojung.object.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+// 여행 스냅샷의 하루 (프로젝션으로 조회한 뒤 subPlans 를 채움)
+@Getter
+public class TripDaySnapshotDTO {
+  private final Long dailyPlanId;
+  private final LocalDate dailyPlanDate;
+  private final int tripDayNumber;
+  private final List<TripSubPlanSnapshotDTO> subPlans = new ArrayList<>();
+
+  public TripDaySnapshotDTO(Long dailyPlanId, LocalDate dailyPlanDate, int tripDayNumber) {
+    this.dailyPlanId = dailyPlanId;
+    this.dailyPlanDate = dailyPlanDate;
+    this.tripDayNumber = tripDayNumber;
+  }
+}
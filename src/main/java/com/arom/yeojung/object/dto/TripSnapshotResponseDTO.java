@@ -0,0 +1,20 @@
+package com.arom.yeojung.object.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+// 여행 전체 스냅샷 (TotalPlan -> DailyPlan -> SubPlan -> Budget)
+@Getter
+@Builder
+public class TripSnapshotResponseDTO {
+  private Long totalPlanId;
+  private String title;
+  private LocalDate startDate;
+  private LocalDate endDate;
+  private Long totalBudget;
+  private String totalPlanDescription;
+  private int travelDuration;
+  private List<TripDaySnapshotDTO> dailyPlans;
+}
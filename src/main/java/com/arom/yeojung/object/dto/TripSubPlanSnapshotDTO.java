@@ -0,0 +1,29 @@
+package com.arom.yeojung.object.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+// 여행 스냅샷의 세부 일정 (프로젝션으로 조회한 뒤 budgets 를 채움)
+@Getter
+public class TripSubPlanSnapshotDTO {
+  private final Long subPlanId;
+  // 상위 DailyPlan 에 붙이기 위한 값 (응답에는 포함하지 않음)
+  @JsonIgnore
+  private final Long dailyPlanId;
+  private final String subPlanTitle;
+  private final String subPlanDescription;
+  private final LocalTime subPlanTime;
+  private final List<BudgetResponseDTO> budgets = new ArrayList<>();
+
+  public TripSubPlanSnapshotDTO(Long subPlanId, Long dailyPlanId, String subPlanTitle,
+      String subPlanDescription, LocalTime subPlanTime) {
+    this.subPlanId = subPlanId;
+    this.dailyPlanId = dailyPlanId;
+    this.subPlanTitle = subPlanTitle;
+    this.subPlanDescription = subPlanDescription;
+    this.subPlanTime = subPlanTime;
+  }
+}
@@ -0,0 +1,30 @@
+package com.arom.yeojung.object.dto;
+
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.Setter;
+
+// 내 여행 목록 한 건 (목록에 필요한 컬럼만 프로젝션으로 조회)
+@Getter
+@Setter
+public class TripSummaryDTO {
+  private Long totalPlanId;
+  private String title;
+  private LocalDate startDate;
+  private LocalDate endDate;
+  private Long memberCount;
+  // 대표 위치 (가장 앞선 일차의 가장 이른 세부 일정 위치), 위치가 없으면 null
+  private Long coverLocationId;
+  private String coverCity;
+  private String coverDistrict;
+
+  // 목록 조회 프로젝션용 생성자
+  public TripSummaryDTO(Long totalPlanId, String title, LocalDate startDate, LocalDate endDate,
+      Long memberCount) {
+    this.totalPlanId = totalPlanId;
+    this.title = title;
+    this.startDate = startDate;
+    this.endDate = endDate;
+    this.memberCount = memberCount;
+  }
+}
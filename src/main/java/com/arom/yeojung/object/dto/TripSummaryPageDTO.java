@@ -0,0 +1,18 @@
+package com.arom.yeojung.object.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 내 여행 목록 페이지 (다음 페이지 조회용 커서 포함)
+@Getter
+@AllArgsConstructor
+public class TripSummaryPageDTO {
+  private List<TripSummaryDTO> trips;
+  // 다음 페이지 커서 (startDate, totalPlanId), 마지막 페이지면 둘 다 null
+  // 시작일이 없는 계획 구간에 들어서면 startDate 만 null (그대로 다음 요청에 전달)
+  private LocalDate nextCursorStartDate;
+  private Long nextCursorTotalPlanId;
+  private boolean hasNext;
+}
@@ -3,11 +3,18 @@ package com.arom.yeojung.repository;
 import com.arom.yeojung.object.Budget;
 import com.arom.yeojung.object.BudgetType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
     Optional<Budget> findByBudgetType(BudgetType budgetType);
     List<Budget> findBySubPlan_SubPlanId(Long subPlanId);
+
+    // 여러 SubPlan 의 예산을 한 번에 조회
+    @Query("select b from Budget b where b.subPlan.subPlanId in :subPlanIds order by b.budgetId asc")
+    List<Budget> findBySubPlanIds(@Param("subPlanIds") Collection<Long> subPlanIds);
 }
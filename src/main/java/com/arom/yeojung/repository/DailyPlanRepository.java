@@ -2,7 +2,10 @@ package com.arom.yeojung.repository;
 
 import com.arom.yeojung.object.DailyPlan;
 import com.arom.yeojung.object.TotalPlan;
+import com.arom.yeojung.object.dto.TripDaySnapshotDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,5 +19,10 @@ public interface DailyPlanRepository extends JpaRepository<DailyPlan, Long> {
     List<DailyPlan> findByTotalPlan_TotalPlanId(Long planId);
 
   List<DailyPlan> findByTotalPlan(TotalPlan totalPlan);
-}
 
+  // 여행 스냅샷용 DailyPlan 목록 (삭제되지 않은 날만, 일차 순)
+  @Query("select new com.arom.yeojung.object.dto.TripDaySnapshotDTO(d.dailyPlanId, d.dailyPlanDate, d.tripDayNumber) "
+      + "from DailyPlan d where d.totalPlan.totalPlanId = :totalPlanId and d.isDeleted = false "
+      + "order by d.tripDayNumber asc")
+  List<TripDaySnapshotDTO> findSnapshotsByTotalPlanId(@Param("totalPlanId") Long totalPlanId);
+}
@@ -1,10 +1,32 @@
 package com.arom.yeojung.repository;
 
 import com.arom.yeojung.object.DiaryContent;
+import com.arom.yeojung.object.dto.DiaryContentDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface DiaryContentRepository extends JpaRepository<DiaryContent, Long> {
     public List<DiaryContent> findByDiary_DiaryId(Long diaryId);
+
+    //다이어리 컨텐츠 목록을 파일 정보와 함께 한 번의 쿼리로 조회 (순서 오름차순)
+    @Query("select new com.arom.yeojung.object.dto.DiaryContentDto(c.diaryContentId, c.diary.diaryId, "
+            + "c.contentType, c.content, f.fileId, f.fileUrl, c.sequence) "
+            + "from DiaryContent c left join c.file f "
+            + "where c.diary.diaryId = :diaryId "
+            + "order by c.sequence asc")
+    List<DiaryContentDto> findContentDtosByDiaryId(@Param("diaryId") Long diaryId);
+
+    //다이어리 컨텐츠의 (id, 순서 키, 컨텐츠 종류) 목록 (순서 오름차순)
+    @Query("select c.diaryContentId, c.sequence, c.contentType from DiaryContent c "
+            + "where c.diary.diaryId = :diaryId order by c.sequence asc, c.diaryContentId asc")
+    List<Object[]> findSequencesByDiaryId(@Param("diaryId") Long diaryId);
+
+    //컨텐츠 한 건의 순서 키 변경
+    @Modifying
+    @Query("update DiaryContent c set c.sequence = :sequence where c.diaryContentId = :diaryContentId")
+    int updateSequence(@Param("diaryContentId") Long diaryContentId, @Param("sequence") Long sequence);
 }
@@ -1,10 +1,48 @@
 package com.arom.yeojung.repository;
 
 import com.arom.yeojung.object.Diary;
+import com.arom.yeojung.object.DiaryStatus;
+import com.arom.yeojung.object.dto.DiaryFeedDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface DiaryRepository extends JpaRepository<Diary, Long> {
 
+    //피드 첫 페이지 (최신순, 썸네일은 작은 변형 이미지가 있으면 그것을 사용)
+    @Query("select new com.arom.yeojung.object.dto.DiaryFeedDto(d.diaryId, d.user.userId, d.title, d.viewCount, "
+            + "d.commentCount, d.likeCount, d.status, d.createdDate, coalesce(t.smallVariantUrl, t.fileUrl)) "
+            + "from Diary d left join d.thumbnailFile t "
+            + "where d.status = :status and d.isDeleted = false "
+            + "order by d.createdDate desc, d.diaryId desc")
+    List<DiaryFeedDto> findFeed(@Param("status") DiaryStatus status, Pageable pageable);
+
+    //피드 다음 페이지 (커서 (createdDate, diaryId) 이후)
+    @Query("select new com.arom.yeojung.object.dto.DiaryFeedDto(d.diaryId, d.user.userId, d.title, d.viewCount, "
+            + "d.commentCount, d.likeCount, d.status, d.createdDate, coalesce(t.smallVariantUrl, t.fileUrl)) "
+            + "from Diary d left join d.thumbnailFile t "
+            + "where d.status = :status and d.isDeleted = false "
+            + "and (d.createdDate < :cursorCreatedDate "
+            + "or (d.createdDate = :cursorCreatedDate and d.diaryId < :cursorDiaryId)) "
+            + "order by d.createdDate desc, d.diaryId desc")
+    List<DiaryFeedDto> findFeedAfter(@Param("status") DiaryStatus status,
+                                     @Param("cursorCreatedDate") LocalDateTime cursorCreatedDate,
+                                     @Param("cursorDiaryId") Long cursorDiaryId,
+                                     Pageable pageable);
+
+    //댓글 수 원자적 증감
+    @Modifying
+    @Query("update Diary d set d.commentCount = coalesce(d.commentCount, 0) + :delta where d.diaryId = :diaryId")
+    int addCommentCount(@Param("diaryId") Long diaryId, @Param("delta") long delta);
+
+    //좋아요 수 원자적 증감
+    @Modifying
+    @Query("update Diary d set d.likeCount = coalesce(d.likeCount, 0) + :delta where d.diaryId = :diaryId")
+    int addLikeCount(@Param("diaryId") Long diaryId, @Param("delta") long delta);
 }
@@ -1,7 +1,63 @@
 package com.arom.yeojung.repository;
 
 import com.arom.yeojung.object.File;
+import com.arom.yeojung.object.FileStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface FileRepository extends JpaRepository<File, Long> {
+
+    //업로드 상태만 변경 (변형 이미지 기록과 동시에 일어나도 서로 덮어쓰지 않도록 컬럼 단위로 수정)
+    @Modifying
+    @Query("update File f set f.status = :status where f.fileId = :fileId")
+    int updateStatus(@Param("fileId") Long fileId, @Param("status") FileStatus status);
+
+    //변형 이미지 URL 만 변경
+    @Modifying
+    @Query("update File f set f.smallVariantUrl = :smallUrl, f.mediumVariantUrl = :mediumUrl, "
+            + "f.largeVariantUrl = :largeUrl where f.fileId = :fileId")
+    int updateVariantUrls(@Param("fileId") Long fileId, @Param("smallUrl") String smallUrl,
+                          @Param("mediumUrl") String mediumUrl, @Param("largeUrl") String largeUrl);
+
+    Optional<File> findByContentHash(String contentHash);
+
+    Optional<File> findFirstByFileUrl(String fileUrl);
+
+    Optional<File> findFirstByFileName(String fileName);
+
+    //업로드 실패 표시 (해시를 비워 같은 내용의 이후 업로드가 실패한 행에 막히지 않도록 함)
+    @Modifying
+    @Query("update File f set f.status = com.arom.yeojung.object.FileStatus.FAILED, f.contentHash = null "
+            + "where f.fileId = :fileId")
+    int markFailed(@Param("fileId") Long fileId);
+
+    //같은 내용의 파일을 다시 업로드한 경우 고아 파일 정리 대상에서 빠지도록 변경 시각 갱신
+    @Modifying
+    @Query("update File f set f.updatedDate = current_timestamp where f.fileId = :fileId")
+    int touch(@Param("fileId") Long fileId);
+
+    //다이어리 컨텐츠, 다이어리 썸네일, 사용자 프로필 중 한 곳이라도 이 파일을 참조하는지 (고아 파일 정리와 같은 기준)
+    @Query(value = "select count(*) from file f where f.file_id = :fileId and ("
+            + "exists (select 1 from diary_content c where c.file_id = f.file_id) "
+            + "or exists (select 1 from diary d where d.thumbnail_file_file_id = f.file_id) "
+            + "or exists (select 1 from user u where u.profile_image_url = f.file_url))", nativeQuery = true)
+    long countReferenced(@Param("fileId") Long fileId);
+
+    //S3 객체를 지우기 전에 해시를 비워 이후 업로드가 이 행을 재사용하지 않도록 함
+    @Modifying
+    @Query("update File f set f.contentHash = null where f.fileId = :fileId")
+    int detachContent(@Param("fileId") Long fileId);
+
+    //서명 URL 발급용 (fileId, S3 객체 키) 목록
+    //업로드가 끝나지 않았거나(PENDING, FAILED) 삭제된 파일은 제외 (상태 컬럼이 없던 기존 파일은 null -> 업로드 완료)
+    @Query("select f.fileId, f.fileName from File f where f.fileId in :fileIds "
+            + "and (f.status is null or f.status = com.arom.yeojung.object.FileStatus.READY) "
+            + "and (f.isDeleted is null or f.isDeleted = false)")
+    List<Object[]> findObjectKeysByFileIds(@Param("fileIds") Collection<Long> fileIds);
 }
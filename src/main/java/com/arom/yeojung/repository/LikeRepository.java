@@ -2,9 +2,23 @@ package com.arom.yeojung.repository;
 
 import com.arom.yeojung.object.Like;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
     Optional<Like> findByUser_UserIdAndDiary_DiaryId(Long userId, Long diaryId);
+
+    //좋아요 취소, 삭제된 행 수 반환
+    @Modifying
+    @Query("delete from Like l where l.user.userId = :userId and l.diary.diaryId = :diaryId")
+    int deleteByUserIdAndDiaryId(@Param("userId") Long userId, @Param("diaryId") Long diaryId);
+
+    //다이어리별 좋아요한 사용자 목록 (diaryId, userId)
+    @Query("select l.diary.diaryId, l.user.userId from Like l where l.diary.diaryId in :diaryIds")
+    List<Object[]> findLikerIdsByDiaryIds(@Param("diaryIds") Collection<Long> diaryIds);
 }
@@ -1,13 +1,24 @@
 package com.arom.yeojung.repository;
 
-import com.arom.yeojung.object.SubPlan;
 import com.arom.yeojung.object.DailyPlan;
+import com.arom.yeojung.object.SubPlan;
+import com.arom.yeojung.object.dto.TripSubPlanSnapshotDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface SubPlanRepository extends JpaRepository<SubPlan, Long> {
   List<SubPlan> findByDailyPlan(DailyPlan dailyPlan);
+
+  // 여행 스냅샷용 SubPlan 목록 (여러 DailyPlan 을 한 번에, 삭제되지 않은 일정만, 시간 순)
+  @Query("select new com.arom.yeojung.object.dto.TripSubPlanSnapshotDTO(s.subPlanId, s.dailyPlan.dailyPlanId, "
+      + "s.subPlanTitle, s.subPlanDescription, s.subPlanTime) "
+      + "from SubPlan s where s.dailyPlan.dailyPlanId in :dailyPlanIds and s.isDeleted = false "
+      + "order by s.subPlanTime asc, s.subPlanId asc")
+  List<TripSubPlanSnapshotDTO> findSnapshotsByDailyPlanIds(@Param("dailyPlanIds") Collection<Long> dailyPlanIds);
 }
@@ -1,9 +1,61 @@
 package com.arom.yeojung.repository;
 
 import com.arom.yeojung.object.TotalPlan;
+import com.arom.yeojung.object.dto.TripSummaryDTO;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface TotalPlanRepository extends JpaRepository<TotalPlan, Long> {
-}
\ No newline at end of file
+
+  // 내 여행 목록 첫 페이지 (멤버로 참여한 계획, 시작일 최신순, 시작일이 없는 계획은 마지막)
+  @Query("select new com.arom.yeojung.object.dto.TripSummaryDTO(t.totalPlanId, t.title, t.startDate, t.endDate, "
+      + "(select count(m) from UserPlan m where m.totalPlan = t)) "
+      + "from UserPlan up join up.totalPlan t "
+      + "where up.user.userId = :userId and t.isDeleted = false "
+      + "order by t.startDate desc nulls last, t.totalPlanId desc")
+  List<TripSummaryDTO> findMyTrips(@Param("userId") Long userId, Pageable pageable);
+
+  // 내 여행 목록 다음 페이지 (커서 (startDate, totalPlanId) 이후, 시작일이 없는 계획은 모든 시작일 뒤)
+  @Query("select new com.arom.yeojung.object.dto.TripSummaryDTO(t.totalPlanId, t.title, t.startDate, t.endDate, "
+      + "(select count(m) from UserPlan m where m.totalPlan = t)) "
+      + "from UserPlan up join up.totalPlan t "
+      + "where up.user.userId = :userId and t.isDeleted = false "
+      + "and (t.startDate < :cursorStartDate "
+      + "or (t.startDate = :cursorStartDate and t.totalPlanId < :cursorTotalPlanId) "
+      + "or t.startDate is null) "
+      + "order by t.startDate desc nulls last, t.totalPlanId desc")
+  List<TripSummaryDTO> findMyTripsAfter(@Param("userId") Long userId,
+      @Param("cursorStartDate") LocalDate cursorStartDate,
+      @Param("cursorTotalPlanId") Long cursorTotalPlanId,
+      Pageable pageable);
+
+  // 내 여행 목록 다음 페이지 (커서가 시작일이 없는 계획인 경우, 시작일이 없는 계획만 id 역순)
+  @Query("select new com.arom.yeojung.object.dto.TripSummaryDTO(t.totalPlanId, t.title, t.startDate, t.endDate, "
+      + "(select count(m) from UserPlan m where m.totalPlan = t)) "
+      + "from UserPlan up join up.totalPlan t "
+      + "where up.user.userId = :userId and t.isDeleted = false "
+      + "and t.startDate is null and t.totalPlanId < :cursorTotalPlanId "
+      + "order by t.totalPlanId desc")
+  List<TripSummaryDTO> findMyUndatedTripsAfter(@Param("userId") Long userId,
+      @Param("cursorTotalPlanId") Long cursorTotalPlanId,
+      Pageable pageable);
+
+  // 여러 여행 계획의 대표 위치 (totalPlanId, locationId, city, district)
+  // 계획별로 일차, 시간 순 첫 번째 위치가 있는 세부 일정 하나만 DB 에서 골라 반환
+  @Query(value = "select x.total_plan_id, x.location_id, x.city, x.district from ("
+      + "select d.total_plan_id, l.location_id, l.city, l.district, "
+      + "row_number() over (partition by d.total_plan_id "
+      + "order by d.trip_day_number, s.sub_plan_time, s.sub_plan_id) as rn "
+      + "from sub_plan s join daily_plan d on d.daily_plan_id = s.daily_plan_id "
+      + "join location l on l.location_id = s.location_id "
+      + "where d.total_plan_id in (:totalPlanIds) and d.is_deleted = false and s.is_deleted = false) x "
+      + "where x.rn = 1", nativeQuery = true)
+  List<Object[]> findCoverLocations(@Param("totalPlanIds") Collection<Long> totalPlanIds);
+}
@@ -0,0 +1,18 @@
+package com.arom.yeojung.repository;
+
+import com.arom.yeojung.object.UserPlan;
+import com.arom.yeojung.object.constants.PlanRole;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserPlanRepository extends JpaRepository<UserPlan, Long> {
+
+  // 사용자의 여행 계획 내 역할 조회 (user_id, totalPlan_id, role 인덱스만으로 처리)
+  @Query("select up.role from UserPlan up "
+      + "where up.user.userId = :userId and up.totalPlan.totalPlanId = :totalPlanId")
+  List<PlanRole> findRoles(@Param("userId") Long userId, @Param("totalPlanId") Long totalPlanId);
+}
@@ -3,6 +3,8 @@ package com.arom.yeojung.repository;
 import com.arom.yeojung.object.User;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -13,4 +15,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
   Boolean existsByNickname(String nickname);
 
   Boolean existsByUsername(String username);
+
+  // 토큰 버전 검증용 (저장된 값이 없으면 0)
+  @Query("select coalesce(u.tokenVersion, 0) from User u where u.userId = :userId")
+  Optional<Long> findTokenVersionByUserId(@Param("userId") Long userId);
 }
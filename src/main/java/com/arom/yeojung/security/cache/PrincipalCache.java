@@ -0,0 +1,59 @@
+package com.arom.yeojung.security.cache;
+
+import com.arom.yeojung.object.dto.user.CustomUserDetails;
+import com.arom.yeojung.util.cache.TtlCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// JWTFilter 에서 매 요청마다 사용자 조회 쿼리가 나가지 않도록 username 기준으로 인증 주체를 캐시
+@Component
+@Slf4j
+public class PrincipalCache {
+
+  private final TtlCache<String, CustomUserDetails> cache;
+
+  public PrincipalCache(@Value("${security.principal-cache.max-size:10000}") int maxSize,
+      @Value("${security.principal-cache.ttl:5m}") Duration ttl,
+      MeterRegistry meterRegistry) {
+    this.cache = new TtlCache<>(maxSize, ttl);
+
+    FunctionCounter.builder("principal.cache.hits", cache, TtlCache::getHitCount)
+        .register(meterRegistry);
+    FunctionCounter.builder("principal.cache.misses", cache, TtlCache::getMissCount)
+        .register(meterRegistry);
+    FunctionCounter.builder("principal.cache.evictions", cache, TtlCache::getEvictionCount)
+        .register(meterRegistry);
+    Gauge.builder("principal.cache.size", cache, TtlCache::size)
+        .register(meterRegistry);
+  }
+
+  public CustomUserDetails get(String username) {
+    return cache.get(username);
+  }
+
+  public void put(String username, CustomUserDetails userDetails) {
+    cache.put(username, userDetails);
+  }
+
+  // 사용자 정보가 변경되면 캐시에서 제거 (트랜잭션 중이면 커밋 이후에 제거)
+  public void evict(String username) {
+    cache.invalidate(username);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          cache.invalidate(username);
+        }
+      });
+    }
+    log.debug("인증 주체 캐시 제거: username: {}", username);
+  }
+}
@@ -0,0 +1,56 @@
+package com.arom.yeojung.security.cache;
+
+import com.arom.yeojung.repository.UserRepository;
+import com.arom.yeojung.util.cache.TtlCache;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 사용자의 최신 토큰 버전 (User.tokenVersion)
+// 토큰의 버전이 이보다 낮으면 토큰 클레임 대신 DB 에서 사용자를 다시 조회한다.
+// 캐시에 없는 사용자는 DB 에 저장된 버전으로 확인하므로 재기동 후에도 이전 토큰이 통과하지 않으며,
+// 다른 인스턴스에서 변경된 버전은 TTL 이 지난 뒤 반영된다.
+@Component
+public class UserVersionRegistry {
+
+  private final UserRepository userRepository;
+  private final TtlCache<Long, Long> latestVersions;
+
+  public UserVersionRegistry(UserRepository userRepository,
+      @Value("${security.user-version-cache.max-size:10000}") int maxSize,
+      @Value("${security.user-version-cache.ttl:30s}") Duration ttl) {
+    this.userRepository = userRepository;
+    this.latestVersions = new TtlCache<>(maxSize, ttl);
+  }
+
+  public boolean isStale(Long userId, Long tokenVersion) {
+    Long latest = latestVersions.get(userId);
+    if (latest == null) {
+      // 탈퇴 등으로 사용자가 없으면 토큰 클레임을 믿지 않음
+      latest = userRepository.findTokenVersionByUserId(userId).orElse(Long.MAX_VALUE);
+      latestVersions.put(userId, latest);
+    }
+    return tokenVersion == null || tokenVersion < latest;
+  }
+
+  // 트랜잭션 중이면 커밋 이후에 반영
+  public void markUpdated(Long userId, Long tokenVersion) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          update(userId, tokenVersion);
+        }
+      });
+      return;
+    }
+    update(userId, tokenVersion);
+  }
+
+  private synchronized void update(Long userId, Long tokenVersion) {
+    Long current = latestVersions.get(userId);
+    latestVersions.put(userId, current == null ? tokenVersion : Math.max(current, tokenVersion));
+  }
+}
@@ -1,7 +1,10 @@
 package com.arom.yeojung.security.filter;
 
 import com.arom.yeojung.object.User;
+import com.arom.yeojung.object.dto.user.CustomUserDetails;
+import com.arom.yeojung.security.cache.UserVersionRegistry;
 import com.arom.yeojung.security.jwt.JWTUtil;
+import com.arom.yeojung.security.jwt.JwtClaims;
 import com.arom.yeojung.service.CustomUserDetailsService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -20,6 +23,7 @@ public class JWTFilter extends OncePerRequestFilter {
 
     private final JWTUtil jwtUtil;
     private final CustomUserDetailsService customUserDetailsService;
+    private final UserVersionRegistry userVersionRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -35,7 +39,10 @@ public class JWTFilter extends OncePerRequestFilter {
 
         String token = authorization.split(" ")[1];
 
-        if (jwtUtil.isExpired(token)) {
+        // 토큰은 한 번만 파싱하여 만료 여부와 username을 함께 확인
+        JwtClaims claims = jwtUtil.verify(token);
+
+        if (claims.isExpired()) {
 
             System.out.println("token expired");
             filterChain.doFilter(request, response);
@@ -43,13 +50,24 @@ public class JWTFilter extends OncePerRequestFilter {
             return;
         }
 
-        String username = jwtUtil.getUsername(token);
+        String username = claims.getUsername();
+
+        UserDetails customUserDetails;
 
-        User user = new User();
-        user.setUsername(username);
-        user.setPassword("temppassword");
+        // 확장 토큰이고 버전이 최신이면 DB 조회 없이 클레임으로 사용자 복원
+        if (claims.hasPrincipalClaims()
+                && !userVersionRegistry.isStale(claims.getUserId(), claims.getTokenVersion())) {
+            User user = new User();
+            user.setUserId(claims.getUserId());
+            user.setUsername(username);
+            user.setNickname(claims.getNickname());
+            user.setTokenVersion(claims.getTokenVersion());
+            user.setPassword("temppassword");
 
-        UserDetails customUserDetails = customUserDetailsService.loadUserByUsername(username);
+            customUserDetails = new CustomUserDetails(user);
+        } else {
+            customUserDetails = customUserDetailsService.loadUserByUsername(username);
+        }
 
         Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
 
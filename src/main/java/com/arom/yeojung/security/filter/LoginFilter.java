@@ -1,11 +1,15 @@
 package com.arom.yeojung.security.filter;
 
+import com.arom.yeojung.object.dto.user.CustomUserDetails;
 import com.arom.yeojung.security.jwt.JWTUtil;
+import com.arom.yeojung.util.exception.CustomException;
+import com.arom.yeojung.util.exception.ErrorCode;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -30,7 +34,12 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(username, password, null);
 
-        return authenticationManager.authenticate(authToken);
+        try {
+            return authenticationManager.authenticate(authToken);
+        } catch (CustomException e) {
+            // 비밀번호 해싱 대기열 초과 등 -> 인증 실패로 전달하여 상태 코드 지정
+            throw new AuthenticationServiceException(e.getMessage(), e);
+        }
     }
 
     @Override
@@ -42,13 +51,34 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
         Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
         Iterator<? extends GrantedAuthority> iterator = authorities.iterator();
 
-        String token = jwtUtil.createJwt(username,  60*60*10L*100);
+        String token;
+        if (jwtUtil.isEnrichedClaims() && customUserDetails instanceof CustomUserDetails userDetails) {
+            token = jwtUtil.createJwt(userDetails.getUser(), 60*60*10L*100);
+        } else {
+            token = jwtUtil.createJwt(username,  60*60*10L*100);
+        }
 
         response.addHeader("Authorization", "Bearer " + token);
     }
 
+    //해싱 대기열 초과만 429 로 구분하고, 없는 사용자와 틀린 비밀번호 등 나머지는 모두 401 (가입 여부가 드러나지 않도록)
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) {
 
+        if (isTooManyRequests(failed)) {
+            response.setStatus(ErrorCode.TOO_MANY_REQUESTS.getStatus().value());
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+    }
+
+    //인증 제공자가 감싼 예외까지 원인을 따라가며 확인
+    private boolean isTooManyRequests(Throwable failed) {
+        for (Throwable cause = failed; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CustomException customException) {
+                return customException.getErrorCode() == ErrorCode.TOO_MANY_REQUESTS;
+            }
+        }
+        return false;
     }
 }
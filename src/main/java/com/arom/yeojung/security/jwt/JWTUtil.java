@@ -1,5 +1,9 @@
 package com.arom.yeojung.security.jwt;
 
+import com.arom.yeojung.object.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -13,20 +17,61 @@ import java.util.Date;
 public class JWTUtil {
 
     private SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final boolean enrichedClaims;
 
-    public JWTUtil(@Value("${spring.jwt.secret}")String secret) {
+    public JWTUtil(@Value("${spring.jwt.secret}")String secret,
+                   @Value("${spring.jwt.cache.max-size:10000}") int cacheMaxSize,
+                   @Value("${spring.jwt.enriched-claims:false}") boolean enrichedClaims) {
 
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        verifiedTokenCache = new VerifiedTokenCache(cacheMaxSize);
+        this.enrichedClaims = enrichedClaims;
+    }
+
+    // 확장 토큰 형식(userId, nickname, tokenVersion 포함) 사용 여부
+    public boolean isEnrichedClaims() {
+
+        return enrichedClaims;
+    }
+
+    // 토큰을 한 번만 파싱/서명 검증하여 클레임 반환 (검증된 토큰은 캐시에서 바로 반환)
+    public JwtClaims verify(String token) {
+
+        JwtClaims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims payload;
+        try {
+            payload = jwtParser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            // 서명은 유효하지만 만료된 토큰 -> 만료 여부는 호출하는 쪽에서 판단
+            payload = e.getClaims();
+        }
+
+        JwtClaims claims = new JwtClaims(
+                payload.get("username", String.class),
+                payload.get("userId", Long.class),
+                payload.get("nickname", String.class),
+                payload.get("tokenVersion", Long.class),
+                payload.getIssuedAt(),
+                payload.getExpiration());
+        verifiedTokenCache.put(token, claims);
+        return claims;
     }
 
     public String getUsername(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
+        return verify(token).getUsername();
     }
 
     public Boolean isExpired(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        return verify(token).isExpired();
     }
 
     public String createJwt(String username, Long expiredMs) {
@@ -38,4 +83,18 @@ public class JWTUtil {
                 .signWith(secretKey, Jwts.SIG.HS256)
                 .compact();
     }
+
+    // 확장 토큰 생성 (사용자 정보를 클레임에 담아 요청마다 DB 조회 없이 사용자 복원)
+    public String createJwt(User user, Long expiredMs) {
+
+        return Jwts.builder()
+                .claim("username", user.getUsername())
+                .claim("userId", user.getUserId())
+                .claim("nickname", user.getNickname())
+                .claim("tokenVersion", user.getTokenVersion() == null ? 0L : user.getTokenVersion())
+                .issuedAt(new Date(System.currentTimeMillis()))
+                .expiration(new Date(System.currentTimeMillis() + expiredMs))
+                .signWith(secretKey, Jwts.SIG.HS256)
+                .compact();
+    }
 }
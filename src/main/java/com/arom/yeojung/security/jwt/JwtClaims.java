@@ -0,0 +1,28 @@
+package com.arom.yeojung.security.jwt;
+
+import java.util.Date;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 서명 검증이 끝난 토큰의 클레임 (한 번 파싱한 결과를 재사용하기 위한 불변 객체)
+// userId, nickname, tokenVersion 은 확장 토큰 형식에서만 존재 (기본 형식에서는 null)
+@Getter
+@RequiredArgsConstructor
+public final class JwtClaims {
+
+    private final String username;
+    private final Long userId;
+    private final String nickname;
+    private final Long tokenVersion;
+    private final Date issuedAt;
+    private final Date expiration;
+
+    public boolean isExpired() {
+        return expiration != null && expiration.getTime() <= System.currentTimeMillis();
+    }
+
+    // 사용자 정보를 토큰만으로 복원할 수 있는지 여부
+    public boolean hasPrincipalClaims() {
+        return userId != null && tokenVersion != null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.arom.yeojung.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 서명 검증을 통과한 토큰의 클레임 캐시
+// 토큰 원문 대신 SHA-256 다이제스트를 키로 사용하고, 만료된 토큰은 조회 시 제거한다.
+public class VerifiedTokenCache {
+
+    private final Map<String, JwtClaims> entries;
+
+    public VerifiedTokenCache(int maxSize) {
+        // access-order LinkedHashMap 으로 LRU 방식의 크기 제한
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JwtClaims> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public JwtClaims get(String token) {
+        String key = digest(token);
+        synchronized (entries) {
+            JwtClaims claims = entries.get(key);
+            if (claims != null && claims.isExpired()) {
+                entries.remove(key);
+                return null;
+            }
+            return claims;
+        }
+    }
+
+    public void put(String token, JwtClaims claims) {
+        // 이미 만료된 토큰은 캐시하지 않음
+        if (claims.isExpired()) {
+            return;
+        }
+        String key = digest(token);
+        synchronized (entries) {
+            entries.put(key, claims);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.arom.yeojung.security.password;
+
+import com.arom.yeojung.util.exception.CustomException;
+import com.arom.yeojung.util.exception.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// BCrypt 연산을 전용 스레드 풀에서 수행하는 PasswordEncoder
+// 동시 해싱 수와 대기열 크기를 제한하여, 대기열이 가득 차면 요청 스레드를 붙잡지 않고 바로 429 로 거절한다.
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+  private final BCryptPasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+  private final boolean rehashOnLogin;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+
+  public BoundedPasswordEncoder(int strength, int poolSize, int queueCapacity, boolean rehashOnLogin,
+      MeterRegistry meterRegistry) {
+    this.delegate = new BCryptPasswordEncoder(strength);
+    this.rehashOnLogin = rehashOnLogin;
+    this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hash-"),
+        new ThreadPoolExecutor.AbortPolicy());
+
+    this.encodeTimer = Timer.builder("password.hash")
+        .tag("operation", "encode")
+        .tag("strength", String.valueOf(strength))
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.matchesTimer = Timer.builder("password.hash")
+        .tag("operation", "matches")
+        .tag("strength", String.valueOf(strength))
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+        .register(meterRegistry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+  }
+
+  // 저장된 해시의 cost 가 설정값보다 낮으면 로그인 시 재해싱 (rehash-on-login 모드일 때만)
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return rehashOnLogin && delegate.upgradeEncoding(encodedPassword);
+  }
+
+  private <T> T submit(Callable<T> task) {
+    try {
+      return executor.submit(task).get();
+    } catch (RejectedExecutionException e) {
+      log.warn("비밀번호 해싱 대기열 초과: queueDepth: {}", executor.getQueue().size());
+      throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+}
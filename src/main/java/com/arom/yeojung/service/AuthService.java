@@ -7,7 +7,7 @@ import com.arom.yeojung.util.exception.CustomException;
 import com.arom.yeojung.util.exception.ErrorCode;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -16,7 +16,7 @@ import org.springframework.stereotype.Service;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordEncoder passwordEncoder;
 
     public void join(AuthDto authDto){
 
@@ -33,7 +33,7 @@ public class AuthService {
         User data = new User();
 
         data.setUsername(username);
-        data.setPassword(bCryptPasswordEncoder.encode(password));
+        data.setPassword(passwordEncoder.encode(password));
         data.setNickname(nickname);
 
         userRepository.save(data);
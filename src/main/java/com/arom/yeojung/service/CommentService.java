@@ -10,16 +10,19 @@ import com.arom.yeojung.repository.UserRepository;
 import com.arom.yeojung.util.exception.CustomException;
 import com.arom.yeojung.util.exception.ErrorCode;
 import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@RequiredArgsConstructor
 public class CommentService {
-    private CommentRepository commentRepository;
-    private DiaryRepository diaryRepository;
-    private UserRepository userRepository;
+    private final CommentRepository commentRepository;
+    private final DiaryRepository diaryRepository;
+    private final UserRepository userRepository;
+    private final DiaryCounterService diaryCounterService;
 
     //댓글 생성
     @Transactional
@@ -36,7 +39,7 @@ public class CommentService {
 
         try {
             commentRepository.save(comment);
-            diary.setCommentCount(diary.getCommentCount() + 1);
+            diaryCounterService.increaseCommentCount(diary.getDiaryId());
         }
         catch (Exception e) {
             throw new CustomException(ErrorCode.SAVE_FAILED);
@@ -99,7 +102,7 @@ public class CommentService {
 
         try {
             commentRepository.delete(comment);
-            diary.setCommentCount(diary.getCommentCount() - 1);
+            diaryCounterService.decreaseCommentCount(diary.getDiaryId());
         }
         catch (Exception e) {
             throw new CustomException(ErrorCode.SAVE_FAILED);
@@ -3,30 +3,54 @@ package com.arom.yeojung.service;
 import com.arom.yeojung.object.User;
 import com.arom.yeojung.object.dto.user.CustomUserDetails;
 import com.arom.yeojung.repository.UserRepository;
+import com.arom.yeojung.security.cache.PrincipalCache;
 import com.arom.yeojung.util.exception.CustomException;
 import com.arom.yeojung.util.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
   private final UserRepository userRepository;
+  private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        // 캐시에 있으면 DB 조회 없이 반환
+        CustomUserDetails cached = principalCache.get(username);
+        if (cached != null) {
+            return cached;
+        }
+
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> {
                     System.out.println("사용자를 찾을 수 없습니다. username: " + username);
                     return new CustomException(ErrorCode.USER_NOT_FOUND);
                 });
-        return new CustomUserDetails(user);
+        CustomUserDetails userDetails = new CustomUserDetails(user);
+        principalCache.put(username, userDetails);
+        return userDetails;
     }
 
+    // 로그인 성공 시 저장된 해시의 cost 가 낮으면 새 해시로 교체 (rehash-on-login)
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        principalCache.evict(user.getUsername());
+        log.info("비밀번호 해시를 갱신하였습니다. username: {}", user.getUsername());
+        return new CustomUserDetails(user);
+    }
 }
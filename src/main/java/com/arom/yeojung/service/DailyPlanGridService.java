@@ -0,0 +1,157 @@
+package com.arom.yeojung.service;
+
+import com.arom.yeojung.object.TotalPlan;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+//TotalPlan 의 기간에 맞춰 DailyPlan(일차) 행을 생성하고, 기간이 바뀌면 기존 일차와 비교해 필요한 행만 변경한다.
+//DailyPlan 은 IDENTITY 키라 Hibernate 가 insert 를 배치로 묶지 못하므로 다중 행 INSERT 를 직접 실행한다.
+//호출하는 쪽 트랜잭션 안에서 실행되어야 한다.
+@Service
+@Slf4j
+public class DailyPlanGridService {
+
+    //다중 행 INSERT 한 번에 넣는 행 수
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    private static final String INSERT_PREFIX =
+            "insert into daily_plan (total_plan_id, daily_plan_date, trip_day_number, is_deleted, is_updated, "
+                    + "created_date, updated_date) values ";
+    private static final String INSERT_ROW = "(?, ?, ?, false, false, ?, ?)";
+
+    private static final String SELECT_DAYS_SQL =
+            "select daily_plan_id, daily_plan_date, trip_day_number from daily_plan "
+                    + "where total_plan_id = ? and is_deleted = false order by trip_day_number, daily_plan_id";
+
+    private static final String SHIFT_SQL =
+            "update daily_plan set daily_plan_date = ?, trip_day_number = ?, updated_date = ? where daily_plan_id = ?";
+
+    private static final String SOFT_DELETE_SQL =
+            "update daily_plan set is_deleted = true, updated_date = ? where daily_plan_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DailyPlanGridService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    //0번째(전체 대표) 일차와 startDate ~ endDate 의 일차 생성, 생성한 일차 목록 반환
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<Day> createDays(TotalPlan totalPlan) {
+        List<Day> days = new ArrayList<>();
+        days.add(new Day(null, totalPlan.getStartDate(), 0));
+        days.addAll(daysOf(totalPlan.getStartDate(), totalPlan.getEndDate()));
+        insert(totalPlan.getTotalPlanId(), days);
+        return days;
+    }
+
+    //기간 변경 반영 (아직 일차가 생성되지 않은 계획이면 아무것도 하지 않음)
+    //기간 길이가 같으면 일차별 일정을 유지한 채 날짜만 옮기고,
+    //길이가 바뀌면 날짜 기준으로 남는 일차는 번호만 다시 매기고, 범위를 벗어난 일차는 소프트 딜리트, 빈 날짜는 새로 생성
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void regenerateDays(TotalPlan totalPlan, LocalDate oldStartDate, LocalDate oldEndDate) {
+        LocalDate newStartDate = totalPlan.getStartDate();
+        LocalDate newEndDate = totalPlan.getEndDate();
+        if (newStartDate.equals(oldStartDate) && newEndDate.equals(oldEndDate)) {
+            return;
+        }
+
+        List<Day> existing = jdbcTemplate.query(SELECT_DAYS_SQL,
+                (rs, rowNum) -> new Day(rs.getLong(1), rs.getDate(2).toLocalDate(), rs.getInt(3)),
+                totalPlan.getTotalPlanId());
+        if (existing.isEmpty()) {
+            return;
+        }
+
+        //이전 기간이 비어 있던 계획은 날짜 기준으로만 맞춤
+        boolean sameLength = oldStartDate != null && oldEndDate != null
+                && ChronoUnit.DAYS.between(oldStartDate, oldEndDate) == ChronoUnit.DAYS.between(newStartDate, newEndDate);
+        long moveDays = sameLength ? ChronoUnit.DAYS.between(oldStartDate, newStartDate) : 0;
+
+        List<Object[]> shifts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        Set<LocalDate> coveredDates = new HashSet<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (Day day : existing) {
+            if (day.tripDayNumber() == 0) {
+                //전체 대표 일차는 시작일을 따라감
+                if (!day.date().equals(newStartDate)) {
+                    shifts.add(new Object[]{Date.valueOf(newStartDate), 0, now, day.dailyPlanId()});
+                }
+                continue;
+            }
+
+            LocalDate date = sameLength ? day.date().plusDays(moveDays) : day.date();
+            if (date.isBefore(newStartDate) || date.isAfter(newEndDate) || !coveredDates.add(date)) {
+                deletes.add(new Object[]{now, day.dailyPlanId()});
+                continue;
+            }
+            int tripDayNumber = (int) ChronoUnit.DAYS.between(newStartDate, date) + 1;
+            if (!date.equals(day.date()) || tripDayNumber != day.tripDayNumber()) {
+                shifts.add(new Object[]{Date.valueOf(date), tripDayNumber, now, day.dailyPlanId()});
+            }
+        }
+
+        List<Day> inserts = daysOf(newStartDate, newEndDate).stream()
+                .filter(day -> !coveredDates.contains(day.date()))
+                .toList();
+
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(SOFT_DELETE_SQL, deletes);
+        }
+        if (!shifts.isEmpty()) {
+            jdbcTemplate.batchUpdate(SHIFT_SQL, shifts);
+        }
+        insert(totalPlan.getTotalPlanId(), inserts);
+
+        log.info("DailyPlan 재생성: totalPlanId: {}, 이동: {}, 삭제: {}, 생성: {}",
+                totalPlan.getTotalPlanId(), shifts.size(), deletes.size(), inserts.size());
+    }
+
+    private List<Day> daysOf(LocalDate startDate, LocalDate endDate) {
+        List<Day> days = new ArrayList<>();
+        int dayNumber = 1;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            days.add(new Day(null, date, dayNumber++));
+        }
+        return days;
+    }
+
+    //INSERT_CHUNK_SIZE 행씩 다중 행 INSERT 실행
+    private void insert(Long totalPlanId, List<Day> days) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < days.size(); from += INSERT_CHUNK_SIZE) {
+            List<Day> chunk = days.subList(from, Math.min(from + INSERT_CHUNK_SIZE, days.size()));
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+            List<Object> args = new ArrayList<>(chunk.size() * 5);
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? INSERT_ROW : ", " + INSERT_ROW);
+                Day day = chunk.get(i);
+                args.add(totalPlanId);
+                args.add(Date.valueOf(day.date()));
+                args.add(day.tripDayNumber());
+                args.add(now);
+                args.add(now);
+            }
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+
+    //일차 한 건 (새로 생성하는 일차는 dailyPlanId 가 null)
+    public record Day(Long dailyPlanId, LocalDate date, int tripDayNumber) {
+    }
+}
@@ -3,7 +3,6 @@ package com.arom.yeojung.service;
 import com.arom.yeojung.object.DailyPlan;
 import com.arom.yeojung.object.TotalPlan;
 import com.arom.yeojung.object.User;
-import com.arom.yeojung.object.constants.PlanRole;
 import com.arom.yeojung.object.dto.DailyPlanRequestDTO;
 import com.arom.yeojung.object.dto.DailyPlanResponseDTO;
 import com.arom.yeojung.repository.DailyPlanRepository;
@@ -16,8 +15,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -27,6 +24,8 @@ public class DailyPlanService {
 
     private final DailyPlanRepository dailyPlanRepository;
     private final TotalPlanRepository totalPlanRepository;
+    private final PlanMembershipAuthorizer planMembershipAuthorizer;
+    private final DailyPlanGridService dailyPlanGridService;
 
     // 생성
     @Transactional
@@ -39,7 +38,7 @@ public class DailyPlanService {
                 log.error("DailyPlan 생성 실패: totalPlan 조회 실패: totalPlanId: {}", totalPlanId);
                 return new CustomException(ErrorCode.TOTAL_PLAN_NOT_FOUND);
             });
-        validateOwnerAuthorization(totalPlan, currentUser);
+        planMembershipAuthorizer.validateOwner(totalPlanId, currentUser);
 
         List<DailyPlan> existingPlans = dailyPlanRepository.findByTotalPlan(totalPlan);
         if (existingPlans != null && !existingPlans.isEmpty()) {
@@ -47,38 +46,17 @@ public class DailyPlanService {
             throw new CustomException(ErrorCode.DAILY_PLAN_ALREADY_EXISTS);
         }
 
-        List<DailyPlan> newDailyPlans = new ArrayList<>();
-
-        // 0번째 DailyPlan 생성 (TotalPlan 전체를 대표)
-        DailyPlan totalDailyPlan = new DailyPlan();
-        totalDailyPlan.setTotalPlan(totalPlan);
-        totalDailyPlan.setDailyPlanDate(totalPlan.getStartDate()); // 필요에 따라 별도 로직 적용 가능
-        totalDailyPlan.setTripDayNumber(0);
-        newDailyPlans.add(totalDailyPlan);
-
-        // startDate부터 endDate까지 DailyPlan 생성
-        LocalDate currentDate = totalPlan.getStartDate();
-        LocalDate endDate = totalPlan.getEndDate();
-        int dayNumber = 1;
-        while (!currentDate.isAfter(endDate)) {
-            DailyPlan dailyPlan = new DailyPlan();
-            dailyPlan.setTotalPlan(totalPlan);
-            dailyPlan.setDailyPlanDate(currentDate);
-            dailyPlan.setTripDayNumber(dayNumber++);
-            newDailyPlans.add(dailyPlan);
-            currentDate = currentDate.plusDays(1);
-        }
-
-        List<DailyPlan> saved = dailyPlanRepository.saveAll(newDailyPlans);
+        // 0번째 DailyPlan (TotalPlan 전체를 대표)과 startDate부터 endDate까지 DailyPlan을 다중 행 INSERT로 생성
+        List<DailyPlanGridService.Day> createdDays = dailyPlanGridService.createDays(totalPlan);
 
-        List<DailyPlanResponseDTO> dailyPlanResponseList = newDailyPlans.stream()
-            .map(plan -> DailyPlanResponseDTO.builder()
-                .dailyPlanDate(plan.getDailyPlanDate())
-                .tripDayNumber(plan.getTripDayNumber())
+        List<DailyPlanResponseDTO> dailyPlanResponseList = createdDays.stream()
+            .map(day -> DailyPlanResponseDTO.builder()
+                .dailyPlanDate(day.date())
+                .tripDayNumber(day.tripDayNumber())
                 .build())
             .collect(Collectors.toList());
 
-        log.info("dailyPlan 생성 성공: 첫 dailyPlanId: {}, 생성 dailyPlan 건수: {}", saved.getFirst().getDailyPlanId(), saved.size());
+        log.info("dailyPlan 생성 성공: totalPlanId: {}, 생성 dailyPlan 건수: {}", totalPlanId, createdDays.size());
         return dailyPlanResponseList;
     }
 
@@ -102,7 +80,7 @@ public class DailyPlanService {
         DailyPlanRequestDTO requestDTO, User currentUser) {
         log.info("DailyPlan 수정 요청: totalPlanId: {} dailyPlanId: {}", totalPlanId, dailyPlanId);
         DailyPlan dailyPlan = findDailyPlanWithValidation(totalPlanId, dailyPlanId);
-        validateOwnerAuthorization(dailyPlan.getTotalPlan(), currentUser);
+        planMembershipAuthorizer.validateOwner(totalPlanId, currentUser);
 
         dailyPlan.setDailyPlanDate(requestDTO.getDailyPlanDate());
         dailyPlan.setTripDayNumber(requestDTO.getTripDayNumber());
@@ -124,7 +102,7 @@ public class DailyPlanService {
     public void deleteDailyPlan(Long totalPlanId, Long dailyPlanId, User currentUser) {
         log.info("DailyPlan 삭제 요청: totalPlanId: {} dailyPlanId: {}, username: {}", totalPlanId, dailyPlanId, currentUser.getUsername());
         DailyPlan dailyPlan = findDailyPlanWithValidation(totalPlanId, dailyPlanId);
-        validateOwnerAuthorization(dailyPlan.getTotalPlan(), currentUser);
+        planMembershipAuthorizer.validateOwner(totalPlanId, currentUser);
 
         dailyPlan.markAsDeleted();
         dailyPlanRepository.save(dailyPlan);
@@ -145,15 +123,4 @@ public class DailyPlanService {
         return dailyPlan;
     }
 
-    private void validateOwnerAuthorization(TotalPlan totalPlan, User currentUser) {
-        boolean isOwner = totalPlan.getMembers().stream()
-            .anyMatch(up -> up.getUser().equals(currentUser)
-                && up.getRole() == PlanRole.OWNER);
-        if (!isOwner) {
-            log.error("권한이 없는 사용자의 요청, totalPlanId: {}, username: {}", totalPlan, currentUser.getUsername());
-            throw new CustomException(ErrorCode.ACCESS_DENIED);
-        }
-    }
-
-
 }
@@ -0,0 +1,57 @@
+package com.arom.yeojung.service;
+
+import com.arom.yeojung.object.File;
+import com.arom.yeojung.repository.FileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Set;
+
+//기본 에셋(다이어리 기본 썸네일 등) 파일 레지스트리
+//설정한 S3 키로 시작 시 한 번만 File 행을 찾아 id 를 메모리에 두고, 이후에는 조회 없이 참조만 만든다.
+//설정이 없거나 파일을 찾지 못하면 기본 썸네일은 null (썸네일 없음)
+@Component
+@Slf4j
+public class DefaultAssetRegistry {
+
+    private final FileRepository fileRepository;
+    private final String diaryThumbnailFileName;
+
+    private volatile Long diaryThumbnailFileId;
+
+    public DefaultAssetRegistry(FileRepository fileRepository,
+                                @Value("${asset.default.diary-thumbnail:}") String diaryThumbnailFileName) {
+        this.fileRepository = fileRepository;
+        this.diaryThumbnailFileName = diaryThumbnailFileName;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resolve() {
+        if (!StringUtils.hasText(diaryThumbnailFileName)) {
+            log.info("다이어리 기본 썸네일이 설정되지 않아 썸네일 없이 생성합니다.");
+            return;
+        }
+        diaryThumbnailFileId = fileRepository.findFirstByFileName(diaryThumbnailFileName)
+                .map(File::getFileId)
+                .orElse(null);
+        if (diaryThumbnailFileId == null) {
+            log.warn("다이어리 기본 썸네일 파일을 찾을 수 없습니다: fileName: {}", diaryThumbnailFileName);
+        }
+    }
+
+    //다이어리 기본 썸네일 (조회 없이 만든 프록시 참조, 없으면 null)
+    public File diaryThumbnail() {
+        Long fileId = diaryThumbnailFileId;
+        return fileId == null ? null : fileRepository.getReferenceById(fileId);
+    }
+
+    //고아 파일 정리에서 제외할 기본 에셋 파일 id
+    public Set<Long> protectedFileIds() {
+        Long fileId = diaryThumbnailFileId;
+        return fileId == null ? Set.of() : Set.of(fileId);
+    }
+}
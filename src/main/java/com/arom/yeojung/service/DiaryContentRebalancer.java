@@ -0,0 +1,71 @@
+package com.arom.yeojung.service;
+
+import com.arom.yeojung.repository.DiaryContentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+//다이어리 컨텐츠 순서 키 재정렬
+//순서 키 사이 간격이 부족해진 다이어리만 GAP 간격으로 다시 번호를 매긴다.
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class DiaryContentRebalancer {
+
+    public static final long GAP = 1024L;
+
+    private static final String RENUMBER_SQL = "update diary_content set sequence = ? where diary_content_id = ?";
+    private static final String LOCK_SQL = "select diary_id from diary where diary_id = ? for update";
+
+    private final DiaryContentRepository diaryContentRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    //재정렬 예약된 다이어리 (중복 예약 방지)
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+
+    //순서 변경과 재정렬이 동시에 일어나지 않도록 다이어리 행 잠금
+    @Transactional
+    public void lockDiary(Long diaryId) {
+        jdbcTemplate.queryForObject(LOCK_SQL, Long.class, diaryId);
+    }
+
+    //주어진 순서대로 GAP, 2*GAP, ... 으로 다시 번호 매김 (null 은 새 컨텐츠용으로 비워 둘 자리)
+    @Transactional
+    public void renumber(List<Long> orderedContentIds) {
+        List<Object[]> batch = new ArrayList<>(orderedContentIds.size());
+        for (int i = 0; i < orderedContentIds.size(); i++) {
+            Long contentId = orderedContentIds.get(i);
+            if (contentId != null) {
+                batch.add(new Object[]{(i + 1) * GAP, contentId});
+            }
+        }
+        jdbcTemplate.batchUpdate(RENUMBER_SQL, batch);
+    }
+
+    //간격이 좁아진 다이어리를 백그라운드에서 재정렬
+    @Async
+    @Transactional
+    public void rebalanceAsync(Long diaryId) {
+        if (!scheduled.add(diaryId)) {
+            return;
+        }
+        try {
+            lockDiary(diaryId);
+            List<Long> orderedIds = diaryContentRepository.findSequencesByDiaryId(diaryId).stream()
+                    .map(row -> (Long) row[0])
+                    .toList();
+            renumber(orderedIds);
+            log.info("다이어리 컨텐츠 순서 재정렬: diaryId: {}, 컨텐츠 수: {}", diaryId, orderedIds.size());
+        } finally {
+            scheduled.remove(diaryId);
+        }
+    }
+}
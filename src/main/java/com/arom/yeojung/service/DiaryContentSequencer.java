@@ -0,0 +1,146 @@
+package com.arom.yeojung.service;
+
+import com.arom.yeojung.repository.DiaryContentRepository;
+import com.arom.yeojung.util.exception.CustomException;
+import com.arom.yeojung.util.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//다이어리 컨텐츠 순서 키 계산
+//순서 키를 간격을 두고 저장하여, 순서 변경 시 옮긴 컨텐츠 한 건만 수정한다.
+//sequence 는 저장된 순서 키이고, 요청으로 받는 위치(position)는 1부터 시작하는 순번이다.
+@Component
+@RequiredArgsConstructor
+public class DiaryContentSequencer {
+
+    //이웃 키와의 간격이 이보다 작아지면 백그라운드 재정렬 예약
+    private static final long MIN_GAP = 16L;
+
+    private final DiaryContentRepository diaryContentRepository;
+    private final DiaryContentRebalancer diaryContentRebalancer;
+
+    //컨텐츠를 position 위치로 이동
+    @Transactional
+    public void move(Long diaryId, Long contentId, long position) {
+        diaryContentRebalancer.lockDiary(diaryId);
+
+        List<Long> ids = new ArrayList<>();
+        List<Long> keys = loadKeys(diaryId, ids);
+
+        int current = ids.indexOf(contentId);
+        if (current < 0) {
+            throw new CustomException(ErrorCode.DIARY_CONTENT_NOT_FOUND);
+        }
+        ids.remove(current);
+        keys.remove(current);
+
+        int index = toIndex(position, ids.size());
+        Long newKey = keyBetween(keyAt(keys, index - 1), keyAt(keys, index));
+
+        //간격이 없으면 이 다이어리만 즉시 재정렬
+        if (newKey == null) {
+            ids.add(index, contentId);
+            diaryContentRebalancer.renumber(ids);
+            return;
+        }
+
+        diaryContentRepository.updateSequence(contentId, newKey);
+        scheduleRebalanceIfCrowded(diaryId, keyAt(keys, index - 1), newKey, keyAt(keys, index));
+    }
+
+    //position 위치에 새 컨텐츠를 넣을 때 사용할 순서 키 (position 이 null 이면 맨 뒤)
+    @Transactional
+    public Long keyForInsert(Long diaryId, Long position) {
+        diaryContentRebalancer.lockDiary(diaryId);
+
+        List<Long> ids = new ArrayList<>();
+        List<Long> keys = loadKeys(diaryId, ids);
+
+        int index = position == null ? keys.size() : toIndex(position, keys.size());
+        Long newKey = keyBetween(keyAt(keys, index - 1), keyAt(keys, index));
+        if (newKey != null) {
+            scheduleRebalanceIfCrowded(diaryId, keyAt(keys, index - 1), newKey, keyAt(keys, index));
+            return newKey;
+        }
+
+        //간격이 없으면 새 컨텐츠 자리를 비워 두고 재정렬
+        ids.add(index, null);
+        diaryContentRebalancer.renumber(ids);
+        return (index + 1) * DiaryContentRebalancer.GAP;
+    }
+
+    //다이어리의 컨텐츠 id 를 ids 에 담고 순서 키 목록 반환 (다이어리 잠금 안에서 호출)
+    //순서 키가 없는(null) 예전 컨텐츠가 있으면 키 사이 간격을 계산할 수 없으므로 현재 순서대로 바로 다시 번호를 매김
+    private List<Long> loadKeys(Long diaryId, List<Long> ids) {
+        List<Long> keys = new ArrayList<>();
+        boolean missingKey = false;
+        for (Object[] row : diaryContentRepository.findSequencesByDiaryId(diaryId)) {
+            ids.add((Long) row[0]);
+            keys.add((Long) row[1]);
+            missingKey |= row[1] == null;
+        }
+        if (!missingKey) {
+            return keys;
+        }
+
+        diaryContentRebalancer.renumber(ids);
+        keys.clear();
+        for (int i = 0; i < ids.size(); i++) {
+            keys.add((i + 1) * DiaryContentRebalancer.GAP);
+        }
+        return keys;
+    }
+
+    //1부터 시작하는 위치를 0부터 시작하는 인덱스로 변환 (범위를 벗어나면 양 끝으로)
+    static int toIndex(long position, int size) {
+        return (int) Math.clamp(position - 1, 0, size);
+    }
+
+    private Long keyAt(List<Long> keys, int index) {
+        if (index < 0 || index >= keys.size()) {
+            return null;
+        }
+        return keys.get(index);
+    }
+
+    //두 키 사이의 새 키, 사이에 남은 간격이 없으면 null
+    private Long keyBetween(Long prev, Long next) {
+        if (prev == null && next == null) {
+            return DiaryContentRebalancer.GAP;
+        }
+        if (prev == null) {
+            return next - DiaryContentRebalancer.GAP;
+        }
+        if (next == null) {
+            return prev + DiaryContentRebalancer.GAP;
+        }
+        if (next - prev <= 1) {
+            return null;
+        }
+        return prev + (next - prev) / 2;
+    }
+
+    private void scheduleRebalanceIfCrowded(Long diaryId, Long prev, long newKey, Long next) {
+        boolean crowded = (prev != null && newKey - prev < MIN_GAP) || (next != null && next - newKey < MIN_GAP);
+        if (!crowded) {
+            return;
+        }
+        //현재 트랜잭션이 커밋된 뒤 재정렬
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    diaryContentRebalancer.rebalanceAsync(diaryId);
+                }
+            });
+            return;
+        }
+        diaryContentRebalancer.rebalanceAsync(diaryId);
+    }
+}
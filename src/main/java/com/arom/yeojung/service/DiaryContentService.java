@@ -2,6 +2,7 @@ package com.arom.yeojung.service;
 
 import com.arom.yeojung.object.*;
 import com.arom.yeojung.object.dto.DiaryContentDto;
+import com.arom.yeojung.object.dto.DiaryContentOperationDto;
 import com.arom.yeojung.repository.DiaryContentRepository;
 import com.arom.yeojung.repository.DiaryRepository;
 import com.arom.yeojung.repository.FileRepository;
@@ -9,10 +10,19 @@ import com.arom.yeojung.util.exception.CustomException;
 import com.arom.yeojung.util.exception.ErrorCode;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -24,7 +34,19 @@ public class DiaryContentService extends BaseTimeEntity {
     private final DiaryContentRepository diaryContentRepository;
     private final DiaryRepository diaryRepository;
     private final FileS3UploadService fileS3UploadService;
+    private final ImageVariantService imageVariantService;
     private final FileRepository fileRepository;
+    private final DiaryContentSequencer diaryContentSequencer;
+    private final DiaryContentRebalancer diaryContentRebalancer;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_CONTENT_SQL = "insert into diary_content "
+            + "(diary_id, content_type, content, file_id, sequence, created_date, updated_date, is_deleted, is_updated) "
+            + "values (?, ?, ?, ?, ?, ?, ?, false, false)";
+    private static final String UPDATE_TEXT_SQL = "update diary_content set content = ?, updated_date = ? where diary_content_id = ?";
+    private static final String UPDATE_FILE_SQL = "update diary_content set file_id = ?, updated_date = ? where diary_content_id = ?";
+    private static final String UPDATE_SEQUENCE_SQL = "update diary_content set sequence = ? where diary_content_id = ?";
+    private static final String DELETE_CONTENT_SQL = "delete from diary_content where diary_content_id = ?";
 
     //다이어리에 컨텐츠 추가(이미지나 비디오)
     @Transactional
@@ -36,13 +58,15 @@ public class DiaryContentService extends BaseTimeEntity {
 
         //새로운 파일 업로드
         File upLoadFile = fileS3UploadService.uploadAndSaveFile(file);
+        imageVariantService.generate(upLoadFile, file);
 
         //업로드한 파일은 포함하는 Content 객체 생성
         DiaryContent content = new DiaryContent();
         content.setDiary(diary);
         content.setContentType(contentDto.getContentType());
         content.setFile(upLoadFile);
-        content.setSequence(contentDto.getSequence());
+        //요청의 sequence 는 끼워 넣을 위치 (없으면 맨 뒤)
+        content.setSequence(diaryContentSequencer.keyForInsert(diaryId, contentDto.getSequence()));
 
         //diary에 컨텐츠 추가
         diary.addContent(content);
@@ -66,7 +90,8 @@ public class DiaryContentService extends BaseTimeEntity {
         content.setDiary(diary);
         content.setContentType(contentDto.getContentType());
         content.setContent(contentDto.getContent());
-        content.setSequence(contentDto.getSequence());
+        //요청의 sequence 는 끼워 넣을 위치 (없으면 맨 뒤)
+        content.setSequence(diaryContentSequencer.keyForInsert(diaryId, contentDto.getSequence()));
 
         //diary에 컨텐츠 추가
         diary.addContent(content);
@@ -141,44 +166,138 @@ public class DiaryContentService extends BaseTimeEntity {
     }
 
     //컨텐츠 순서 변경
+    //newSequence 는 옮길 위치(1부터 시작), 옮긴 컨텐츠 한 건의 순서 키만 변경
     @Transactional
     public void updateContentSequence(Long diaryId, Long contentId, Long newSequence, User currentUser) {
-        List<DiaryContent> contents = diaryContentRepository.findByDiary_DiaryId(diaryId);
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new CustomException(ErrorCode.DIARY_NOT_FOUND));
         validateAuthorization(diary, currentUser);
 
-        DiaryContent targetContent = contents.stream()
-                .filter(c -> c.getDiaryContentId().equals(contentId))
-                .findFirst()
-                .orElseThrow(() -> new CustomException(ErrorCode.DIARY_CONTENT_NOT_FOUND));
+        diaryContentSequencer.move(diaryId, contentId, newSequence);
+    }
+
+
+    //다이어리 컨텐츠 일괄 수정 (INSERT/UPDATE/MOVE/DELETE 작업을 순서대로 하나의 트랜잭션에서 적용)
+    //다이어리 조회와 권한 검증은 한 번만 하고, 변경 사항은 종류별로 JDBC 배치로 반영한다.
+    @Transactional
+    public List<DiaryContentDto> applyContentOperations(Long diaryId, List<DiaryContentOperationDto> operations, User currentUser) {
+        Diary diary = diaryRepository.findById(diaryId)
+                .orElseThrow(() -> new CustomException(ErrorCode.DIARY_NOT_FOUND));
+        validateAuthorization(diary, currentUser);
+
+        diaryContentRebalancer.lockDiary(diaryId);
 
-        Long oldSequence = targetContent.getSequence();
+        //현재 순서를 메모리에 올려 두고 작업을 적용
+        Map<Long, Long> currentKeys = new HashMap<>();
+        Map<Long, ContentType> currentTypes = new HashMap<>();
+        List<ContentSlot> order = new ArrayList<>();
+        for (Object[] row : diaryContentRepository.findSequencesByDiaryId(diaryId)) {
+            currentKeys.put((Long) row[0], (Long) row[1]);
+            currentTypes.put((Long) row[0], (ContentType) row[2]);
+            order.add(new ContentSlot((Long) row[0], null));
+        }
+
+        Map<Long, String> textUpdates = new HashMap<>();
+        Map<Long, Long> fileUpdates = new HashMap<>();
+        Set<Long> deletes = new LinkedHashSet<>();
+        Set<Long> fileIds = new HashSet<>();
 
-        //순서 뒤로 밀기 (ex: 6번 → 2번)
-        if (oldSequence > newSequence) {
-            for (DiaryContent content : contents) {
-                if (content.getSequence() >= newSequence && content.getSequence() < oldSequence) {
-                    content.setSequence(content.getSequence() + 1);
+        for (DiaryContentOperationDto operation : operations) {
+            if (operation.getType() == null) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST);
+            }
+            switch (operation.getType()) {
+                case INSERT -> {
+                    if (operation.getContentType() == null) {
+                        throw new CustomException(ErrorCode.INVALID_REQUEST);
+                    }
+                    validateContentFields(operation.getContentType(), operation.getContent(),
+                            operation.getFileId(), true);
+                    if (operation.getFileId() != null) {
+                        fileIds.add(operation.getFileId());
+                    }
+                    int index = operation.getSequence() == null
+                            ? order.size() : DiaryContentSequencer.toIndex(operation.getSequence(), order.size());
+                    order.add(index, new ContentSlot(null, operation));
+                }
+                case UPDATE -> {
+                    Long contentId = order.get(indexOf(order, operation.getDiaryContentId())).diaryContentId();
+                    //같은 요청에서 새로 추가한 컨텐츠는 UPDATE 대상이 아님 (indexOf 에서 걸러짐)
+                    validateContentFields(currentTypes.get(contentId), operation.getContent(),
+                            operation.getFileId(), false);
+                    if (operation.getContent() != null) {
+                        textUpdates.put(contentId, operation.getContent());
+                    }
+                    if (operation.getFileId() != null) {
+                        fileUpdates.put(contentId, operation.getFileId());
+                        fileIds.add(operation.getFileId());
+                    }
+                }
+                case MOVE -> {
+                    if (operation.getSequence() == null) {
+                        throw new CustomException(ErrorCode.INVALID_REQUEST);
+                    }
+                    ContentSlot slot = order.remove(indexOf(order, operation.getDiaryContentId()));
+                    order.add(DiaryContentSequencer.toIndex(operation.getSequence(), order.size()), slot);
+                }
+                case DELETE -> {
+                    ContentSlot slot = order.remove(indexOf(order, operation.getDiaryContentId()));
+                    deletes.add(slot.diaryContentId());
+                    textUpdates.remove(slot.diaryContentId());
+                    fileUpdates.remove(slot.diaryContentId());
                 }
             }
         }
-        //순서 앞으로 당기기 (ex: 2번 → 6번)
-        else if (oldSequence < newSequence) {
-            for (DiaryContent content : contents) {
-                if (content.getSequence() > oldSequence && content.getSequence() <= newSequence) {
-                    content.setSequence(content.getSequence() - 1);
+
+        //참조하는 파일이 모두 있는지 한 번에 확인
+        if (!fileIds.isEmpty() && fileRepository.findAllById(fileIds).size() != fileIds.size()) {
+            throw new CustomException(ErrorCode.FILE_NOT_FOUND);
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_CONTENT_SQL, deletes.stream()
+                    .map(contentId -> new Object[]{contentId})
+                    .toList());
+        }
+        if (!textUpdates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_TEXT_SQL, textUpdates.entrySet().stream()
+                    .map(e -> new Object[]{e.getValue(), now, e.getKey()})
+                    .toList());
+        }
+        if (!fileUpdates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_FILE_SQL, fileUpdates.entrySet().stream()
+                    .map(e -> new Object[]{e.getValue(), now, e.getKey()})
+                    .toList());
+        }
+
+        //최종 순서대로 GAP 간격의 순서 키 부여 (기존 컨텐츠는 키가 바뀐 것만 수정)
+        List<Object[]> sequenceUpdates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < order.size(); i++) {
+            long key = (i + 1) * DiaryContentRebalancer.GAP;
+            ContentSlot slot = order.get(i);
+            if (slot.insert() == null) {
+                if (!Long.valueOf(key).equals(currentKeys.get(slot.diaryContentId()))) {
+                    sequenceUpdates.add(new Object[]{key, slot.diaryContentId()});
                 }
+                continue;
             }
+            DiaryContentOperationDto insert = slot.insert();
+            inserts.add(new Object[]{diaryId, insert.getContentType().name(), insert.getContent(),
+                    insert.getFileId(), key, now, now});
+        }
+        if (!sequenceUpdates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SEQUENCE_SQL, sequenceUpdates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CONTENT_SQL, inserts);
         }
-        //이동할 컨텐츠의 새로운 순서 설정
-        targetContent.setSequence(newSequence);
 
-        //변경된 순서를 DB에 반영
-        diaryContentRepository.saveAll(contents);
+        return diaryContentRepository.findContentDtosByDiaryId(diaryId);
     }
 
-
     //다이어리 컨텐츠 조회
     public DiaryContentDto getDiaryContent(Long diaryId, Long contentId, User currentUser) {
          DiaryContent diaryContent = diaryContentRepository.findById(contentId)
@@ -196,9 +315,8 @@ public class DiaryContentService extends BaseTimeEntity {
 
     //다이어리 컨텐츠 모두 조회
     public List<DiaryContentDto> getAllDiaryContents(Long diaryId) {
-        List<DiaryContentDto> contentDtos = diaryContentRepository.findByDiary_DiaryId(diaryId)
-                .stream().map(DiaryContent::EntityToDto).collect(Collectors.toList());
-        return contentDtos;
+        //엔티티 대신 DTO 프로젝션으로 조회 (컨텐츠마다 diary, file 을 추가 조회하지 않음)
+        return diaryContentRepository.findContentDtosByDiaryId(diaryId);
     }
 
     //다이어리 컨텐츠 삭제
@@ -215,9 +333,33 @@ public class DiaryContentService extends BaseTimeEntity {
         }
     }
 
+    //일괄 수정 중인 순서에서 기존 컨텐츠의 위치
+    private int indexOf(List<ContentSlot> order, Long diaryContentId) {
+        for (int i = 0; i < order.size(); i++) {
+            Long slotContentId = order.get(i).diaryContentId();
+            if (slotContentId != null && slotContentId.equals(diaryContentId)) {
+                return i;
+            }
+        }
+        throw new CustomException(ErrorCode.DIARY_CONTENT_NOT_FOUND);
+    }
+
+    //텍스트/링크는 content 만, 이미지/비디오는 fileId 만 가질 수 있음 (EntityToDto 로 표시할 수 없는 행 방지)
+    private void validateContentFields(ContentType contentType, String content, Long fileId, boolean requireFile) {
+        boolean media = contentType == ContentType.IMAGE || contentType == ContentType.VIDEO;
+        if (media ? (content != null || (requireFile && fileId == null)) : fileId != null) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    //일괄 수정 중인 순서의 한 자리 (기존 컨텐츠면 diaryContentId, 새 컨텐츠면 insert)
+    private record ContentSlot(Long diaryContentId, DiaryContentOperationDto insert) {
+    }
+
     // 권한 검증 로직 (사용자가 작성한 다이어리인지 확인)
+    //인증 주체는 다른 영속성 컨텍스트의 User 이므로 id 로 비교
     private void validateAuthorization(Diary diary, User currentUser) {
-        if (!diary.getUser().equals(currentUser)) {
+        if (currentUser == null || !diary.getUser().getUserId().equals(currentUser.getUserId())) {
             throw new CustomException(ErrorCode.ACCESS_DENIED);
         }
     }
@@ -0,0 +1,92 @@
+package com.arom.yeojung.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+//다이어리 댓글 수, 좋아요 수 보정
+//comment, likes 테이블에서 실제 개수를 다시 세어 diary 의 카운터와 어긋난 행을 배치 단위로 바로잡는다.
+@Service
+@Slf4j
+public class DiaryCounterReconciler {
+
+    private static final String SCAN_SQL =
+            "select d.diary_id, coalesce(d.comment_count, 0), coalesce(d.like_count, 0), "
+                    + "(select count(*) from comment c where c.diary_id = d.diary_id), "
+                    + "(select count(*) from likes l where l.diary_id = d.diary_id) "
+                    + "from diary d where d.diary_id > ? order by d.diary_id limit ?";
+
+    //보정은 다시 센 값으로 덮어쓰는 단일 UPDATE 로 처리 (읽은 뒤 쓰는 사이의 증감 유실 방지)
+    private static final String REPAIR_SQL =
+            "update diary set "
+                    + "comment_count = (select count(*) from comment c where c.diary_id = diary.diary_id), "
+                    + "like_count = (select count(*) from likes l where l.diary_id = diary.diary_id) "
+                    + "where diary_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    private final AtomicLong lastDrift = new AtomicLong();
+    private final Counter repairedCounter;
+
+    public DiaryCounterReconciler(JdbcTemplate jdbcTemplate,
+                                  @Value("${diary.counter.reconcile-batch-size:500}") int batchSize,
+                                  MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.repairedCounter = Counter.builder("diary.counter.repaired")
+                .register(meterRegistry);
+        //마지막 보정 시 발견된 오차 합계 (댓글 수 + 좋아요 수 차이의 절댓값)
+        Gauge.builder("diary.counter.drift", lastDrift, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${diary.counter.reconcile-interval:10m}")
+    public void reconcile() {
+        long totalDrift = 0;
+        long repaired = 0;
+        long lastDiaryId = 0;
+
+        while (true) {
+            List<Long> driftedIds = new ArrayList<>();
+            List<long[]> rows = jdbcTemplate.query(SCAN_SQL,
+                    (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5)},
+                    lastDiaryId, batchSize);
+
+            for (long[] row : rows) {
+                long drift = Math.abs(row[1] - row[3]) + Math.abs(row[2] - row[4]);
+                if (drift > 0) {
+                    totalDrift += drift;
+                    driftedIds.add(row[0]);
+                }
+            }
+
+            if (!driftedIds.isEmpty()) {
+                jdbcTemplate.batchUpdate(REPAIR_SQL, driftedIds.stream()
+                        .map(id -> new Object[]{id})
+                        .toList());
+                repaired += driftedIds.size();
+            }
+
+            if (rows.size() < batchSize) {
+                break;
+            }
+            lastDiaryId = rows.getLast()[0];
+        }
+
+        lastDrift.set(totalDrift);
+        repairedCounter.increment(repaired);
+        if (repaired > 0) {
+            log.warn("다이어리 카운터 보정: 보정 건수: {}, 오차 합계: {}", repaired, totalDrift);
+        }
+    }
+}
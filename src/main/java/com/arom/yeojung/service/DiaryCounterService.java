@@ -0,0 +1,35 @@
+package com.arom.yeojung.service;
+
+import com.arom.yeojung.repository.DiaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+//다이어리 댓글 수, 좋아요 수 증감
+//엔티티 값을 읽어서 +1 하지 않고 DB에서 원자적으로 증감하여 동시 요청 시 유실을 막는다.
+@Service
+@RequiredArgsConstructor
+public class DiaryCounterService {
+
+    private final DiaryRepository diaryRepository;
+
+    @Transactional
+    public void increaseCommentCount(Long diaryId) {
+        diaryRepository.addCommentCount(diaryId, 1);
+    }
+
+    @Transactional
+    public void decreaseCommentCount(Long diaryId) {
+        diaryRepository.addCommentCount(diaryId, -1);
+    }
+
+    @Transactional
+    public void increaseLikeCount(Long diaryId) {
+        diaryRepository.addLikeCount(diaryId, 1);
+    }
+
+    @Transactional
+    public void decreaseLikeCount(Long diaryId) {
+        diaryRepository.addLikeCount(diaryId, -1);
+    }
+}
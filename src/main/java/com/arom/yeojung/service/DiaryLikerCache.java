@@ -0,0 +1,121 @@
+package com.arom.yeojung.service;
+
+import com.arom.yeojung.repository.LikeRepository;
+import com.arom.yeojung.util.cache.TtlCache;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+//다이어리별 좋아요한 사용자 집합 캐시 (userId 비트맵, LRU)
+//피드 한 페이지의 "내가 좋아요 했는지" 를 다이어리마다 쿼리하지 않고 한 번에 판단하기 위해 사용
+@Component
+public class DiaryLikerCache {
+
+    private final LikeRepository likeRepository;
+    private final TtlCache<Long, Roaring64Bitmap> likers;
+    //좋아요 변경 커밋 횟수, 적재 중에 변경이 커밋되면 적재한 결과를 캐시에 넣지 않음
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public DiaryLikerCache(LikeRepository likeRepository,
+                           @Value("${diary.liker-cache.max-size:5000}") int maxSize,
+                           @Value("${diary.liker-cache.ttl:10m}") Duration ttl) {
+        this.likeRepository = likeRepository;
+        this.likers = new TtlCache<>(maxSize, ttl);
+    }
+
+    //주어진 다이어리들 중 사용자가 좋아요한 다이어리 id 집합 (캐시에 없는 다이어리는 한 번의 쿼리로 적재)
+    public Set<Long> findLikedDiaryIds(Collection<Long> diaryIds, Long userId) {
+        Map<Long, Roaring64Bitmap> bitmaps = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+
+        for (Long diaryId : diaryIds) {
+            Roaring64Bitmap bitmap = likers.get(diaryId);
+            if (bitmap == null) {
+                missing.add(diaryId);
+            } else {
+                bitmaps.put(diaryId, bitmap);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            bitmaps.putAll(load(missing));
+        }
+
+        Set<Long> liked = new HashSet<>();
+        for (Map.Entry<Long, Roaring64Bitmap> entry : bitmaps.entrySet()) {
+            if (entry.getValue().contains(userId)) {
+                liked.add(entry.getKey());
+            }
+        }
+        return liked;
+    }
+
+    //좋아요 추가/취소를 캐시된 비트맵에 한 명만 반영 (트랜잭션 중이면 커밋 이후)
+    //캐시에 없는 다이어리는 다음 조회에서 적재하고, 반영에 실패하면 캐시에서 제거
+    public void update(Long diaryId, Long userId, boolean liked) {
+        Runnable apply = () -> {
+            synchronized (invalidations) {
+                invalidations.incrementAndGet();
+                try {
+                    Roaring64Bitmap cached = likers.get(diaryId);
+                    if (cached == null) {
+                        return;
+                    }
+                    //조회 중인 요청이 같은 비트맵을 읽고 있을 수 있으므로 복사본을 수정해 교체
+                    Roaring64Bitmap updated = cached.clone();
+                    if (liked) {
+                        updated.addLong(userId);
+                    } else {
+                        updated.removeLong(userId);
+                    }
+                    likers.put(diaryId, updated);
+                } catch (RuntimeException e) {
+                    likers.invalidate(diaryId);
+                }
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+            return;
+        }
+        apply.run();
+    }
+
+    private Map<Long, Roaring64Bitmap> load(List<Long> diaryIds) {
+        long invalidationsBeforeLoad = invalidations.get();
+        Map<Long, Roaring64Bitmap> loaded = new HashMap<>();
+        for (Long diaryId : diaryIds) {
+            loaded.put(diaryId, new Roaring64Bitmap());
+        }
+        for (Object[] row : likeRepository.findLikerIdsByDiaryIds(diaryIds)) {
+            loaded.get((Long) row[0]).addLong((Long) row[1]);
+        }
+        //조회 도중 커밋된 좋아요 변경이 있으면 이전 상태일 수 있으므로 이번 응답에만 사용
+        synchronized (invalidations) {
+            if (invalidations.get() == invalidationsBeforeLoad) {
+                for (Map.Entry<Long, Roaring64Bitmap> entry : loaded.entrySet()) {
+                    likers.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        return loaded;
+    }
+}
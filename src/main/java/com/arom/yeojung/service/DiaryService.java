@@ -2,11 +2,15 @@ package com.arom.yeojung.service;
 
 import com.arom.yeojung.object.*;
 import com.arom.yeojung.object.dto.DiaryDto;
+import com.arom.yeojung.object.dto.DiaryFeedDto;
+import com.arom.yeojung.object.dto.DiaryFeedPageDto;
 import com.arom.yeojung.repository.*;
 import com.arom.yeojung.util.exception.CustomException;
 import com.arom.yeojung.util.exception.ErrorCode;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -14,18 +18,25 @@ import org.springframework.web.multipart.MultipartFile;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class DiaryService {
 
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+
     private final DiaryRepository diaryRepository;
     private final UserRepository userRepository;
     private final DiaryContentRepository diaryContentRepository;
     private final FileRepository fileRepository;
     private final UserDiaryRepository userDiaryRepository;
     private final FileS3UploadService fileS3UploadService;
+    private final ImageVariantService imageVariantService;
+    private final DiaryViewCountService diaryViewCountService;
+    private final DiaryLikerCache diaryLikerCache;
+    private final DefaultAssetRegistry defaultAssetRegistry;
 
     //다이어리 생성
     @Transactional
@@ -42,8 +53,8 @@ public class DiaryService {
         diary.setLikeCount(0L);     //
         diary.setStatus(diaryDto.getStatus());
 
-        //썸네일은 기본적으로 없는거로 설정
-        diary.setThumbnailFile(fileRepository.findAll().getFirst());
+        //썸네일은 기본 썸네일로 설정 (기본 썸네일이 없으면 null)
+        diary.setThumbnailFile(defaultAssetRegistry.diaryThumbnail());
 
         //UserDiary 자동 생성 (사용자와 다이어리 연결)
         UserDiary userDiary = new UserDiary();
@@ -85,13 +96,43 @@ public class DiaryService {
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new CustomException(ErrorCode.DIARY_NOT_FOUND));
 
-        return Diary.EntityToDto(diary);
+        diaryViewCountService.increase(diaryId);
+
+        //DB에 저장된 조회수 + 아직 반영되지 않은 조회수
+        DiaryDto diaryDto = Diary.EntityToDto(diary);
+        long persisted = diary.getViewCount() == null ? 0L : diary.getViewCount();
+        diaryDto.setViewCount(persisted + diaryViewCountService.getPendingCount(diaryId));
+        return diaryDto;
     }
 
-    //전체 다이어리 조회
-    public List<DiaryDto> getAllDiary() {
+    //다이어리 피드 조회 (공개 다이어리, 최신순 커서 페이지네이션)
+    public DiaryFeedPageDto getDiaryFeed(LocalDateTime cursorCreatedDate, Long cursorDiaryId, int size, Long currentUserId) {
+        int pageSize = Math.clamp(size, 1, MAX_FEED_PAGE_SIZE);
+        //다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<DiaryFeedDto> diaries = (cursorCreatedDate == null || cursorDiaryId == null)
+                ? diaryRepository.findFeed(DiaryStatus.PUBLIC, limit)
+                : diaryRepository.findFeedAfter(DiaryStatus.PUBLIC, cursorCreatedDate, cursorDiaryId, limit);
+
+        boolean hasNext = diaries.size() > pageSize;
+        if (hasNext) {
+            diaries = diaries.subList(0, pageSize);
+        }
+
+        //현재 사용자의 좋아요 여부 (페이지 단위로 한 번에 확인)
+        if (currentUserId != null && !diaries.isEmpty()) {
+            Set<Long> likedDiaryIds = diaryLikerCache.findLikedDiaryIds(
+                    diaries.stream().map(DiaryFeedDto::getDiaryId).toList(), currentUserId);
+            diaries.forEach(diary -> diary.setLikedByMe(likedDiaryIds.contains(diary.getDiaryId())));
+        }
 
-        return diaryRepository.findAll().stream().map(Diary::EntityToDto).collect(Collectors.toList());
+        DiaryFeedDto last = diaries.isEmpty() ? null : diaries.getLast();
+        return new DiaryFeedPageDto(
+                diaries,
+                hasNext ? last.getCreatedDate() : null,
+                hasNext ? last.getDiaryId() : null,
+                hasNext);
     }
 
     //다이어리 수정
@@ -143,6 +184,8 @@ public class DiaryService {
         validateAuthorization(diary, currentUser);
 
         File ThumbnailFile = fileS3UploadService.uploadAndSaveFile(file);
+        //피드에서 사용할 작은 썸네일 등 변형 이미지 생성
+        imageVariantService.generate(ThumbnailFile, file);
         diary.setThumbnailFile(ThumbnailFile);
         return ThumbnailFile;
     }
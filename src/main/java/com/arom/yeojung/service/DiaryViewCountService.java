@@ -0,0 +1,86 @@
+package com.arom.yeojung.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+//다이어리 조회수 집계 (메모리에 누적 후 주기적으로 DB에 일괄 반영)
+//조회할 때마다 diary 행을 UPDATE 하지 않도록 diaryId별 LongAdder 에 누적한다.
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DiaryViewCountService {
+
+    private static final String FLUSH_SQL =
+            "update diary set view_count = coalesce(view_count, 0) + ? where diary_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    @Value("${diary.view-count.flush-on-shutdown:true}")
+    private boolean flushOnShutdown;
+
+    //조회수 1 증가 (DB 반영은 flush 시점)
+    public void increase(Long diaryId) {
+        //flush 의 카운터 제거와 같은 키 잠금 안에서 증가시켜 제거된 카운터에 더해지지 않도록 함
+        pendingViews.compute(diaryId, (id, adder) -> {
+            LongAdder target = adder == null ? new LongAdder() : adder;
+            target.increment();
+            return target;
+        });
+    }
+
+    //아직 DB에 반영되지 않은 조회수
+    public long getPendingCount(Long diaryId) {
+        LongAdder adder = pendingViews.get(diaryId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    //누적된 조회수를 DB에 일괄 반영 (최대 flush-interval 만큼 지연)
+    @Scheduled(fixedDelayString = "${diary.view-count.flush-interval:5s}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+
+        for (Map.Entry<Long, LongAdder> entry : pendingViews.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0) {
+                //한 주기 동안 조회가 없던 카운터는 제거 (확인 직전에 증가했다면 유지)
+                pendingViews.computeIfPresent(entry.getKey(), (id, adder) -> adder.sum() == 0 ? null : adder);
+                continue;
+            }
+            batch.add(new Object[]{delta, entry.getKey()});
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            log.debug("조회수 반영 완료: 다이어리 수: {}", batch.size());
+        } catch (RuntimeException e) {
+            //반영 실패 시 다음 주기에 다시 시도하도록 되돌림
+            for (Object[] row : batch) {
+                pendingViews.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]);
+            }
+            log.error("조회수 반영 실패: 다이어리 수: {}, message: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (flushOnShutdown) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.arom.yeojung.service;
+
+import com.arom.yeojung.object.dto.FileGcReport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+//고아 파일 정리
+//다이어리 컨텐츠, 다이어리 썸네일, 사용자 프로필 어디에서도 참조하지 않는 파일을 찾아
+//DB 행을 지운 뒤 S3 객체(원본 + 변형 이미지)를 DeleteObjects 배치로 삭제한다.
+//막 업로드되어 아직 연결되지 않은 파일을 지우지 않도록 grace-period 이전에 마지막으로 변경된 파일만 대상으로 한다.
+@Service
+@Slf4j
+public class FileGarbageCollector {
+
+    private static final int MAX_SAMPLE_KEYS = 20;
+
+    private static final String ORPHAN_CONDITION =
+            "coalesce(f.updated_date, f.created_date) < ? "
+                    + "and not exists (select 1 from diary_content c where c.file_id = f.file_id) "
+                    + "and not exists (select 1 from diary d where d.thumbnail_file_file_id = f.file_id) "
+                    + "and not exists (select 1 from user u where u.profile_image_url = f.file_url)";
+
+    private static final String SCAN_SQL =
+            "select f.file_id, f.file_url, f.small_variant_url, f.medium_variant_url, f.large_variant_url "
+                    + "from file f where f.file_id > ? and " + ORPHAN_CONDITION + " order by f.file_id limit ?";
+
+    //스캔 이후 다시 참조된 파일은 지우지 않도록 조건을 다시 확인하며 삭제
+    private static final String DELETE_SQL =
+            "delete from file f where f.file_id = ? and " + ORPHAN_CONDITION;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FileS3UploadService fileS3UploadService;
+    private final DefaultAssetRegistry defaultAssetRegistry;
+    private final boolean enabled;
+    private final boolean dryRun;
+    private final Duration gracePeriod;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long batchDelayMillis;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Counter deletedObjectCounter;
+
+    public FileGarbageCollector(JdbcTemplate jdbcTemplate, FileS3UploadService fileS3UploadService,
+                                DefaultAssetRegistry defaultAssetRegistry,
+                                @Value("${file.gc.enabled:true}") boolean enabled,
+                                @Value("${file.gc.dry-run:false}") boolean dryRun,
+                                @Value("${file.gc.grace-period:24h}") Duration gracePeriod,
+                                @Value("${file.gc.batch-size:1000}") int batchSize,
+                                @Value("${file.gc.max-batches-per-run:10}") int maxBatchesPerRun,
+                                @Value("${file.gc.batch-delay:1s}") Duration batchDelay,
+                                MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fileS3UploadService = fileS3UploadService;
+        this.defaultAssetRegistry = defaultAssetRegistry;
+        this.enabled = enabled;
+        this.dryRun = dryRun;
+        this.gracePeriod = gracePeriod;
+        this.batchSize = Math.min(batchSize, FileS3UploadService.MAX_DELETE_KEYS);
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.batchDelayMillis = batchDelay.toMillis();
+        this.deletedObjectCounter = Counter.builder("file.gc.deleted.objects")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${file.gc.interval:1h}", initialDelayString = "${file.gc.initial-delay:10m}")
+    public void scheduledCollect() {
+        if (!enabled) {
+            return;
+        }
+        FileGcReport report = collect(dryRun);
+        if (report != null && report.getOrphanFiles() > 0) {
+            log.info("고아 파일 정리: dryRun: {}, 대상: {}, 삭제 파일: {}, 삭제 객체: {}, 실패 객체: {}",
+                    report.isDryRun(), report.getOrphanFiles(), report.getDeletedFiles(),
+                    report.getDeletedObjects(), report.getFailedObjects());
+        }
+    }
+
+    //한 번 정리 실행 (이미 실행 중이면 null)
+    public FileGcReport collect(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            return doCollect(dryRun);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private FileGcReport doCollect(boolean dryRun) {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(gracePeriod));
+        //아직 아무 다이어리도 사용하지 않은 기본 에셋은 참조가 없어도 유지
+        Set<Long> protectedFileIds = defaultAssetRegistry.protectedFileIds();
+        long orphanFiles = 0;
+        long deletedFiles = 0;
+        long deletedObjects = 0;
+        long failedObjects = 0;
+        List<String> sampleKeys = new ArrayList<>();
+        long lastFileId = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<OrphanFile> orphans = jdbcTemplate.query(SCAN_SQL,
+                    (rs, rowNum) -> new OrphanFile(rs.getLong(1),
+                            keysOf(rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5))),
+                    lastFileId, cutoff, batchSize);
+            if (orphans.isEmpty()) {
+                break;
+            }
+            boolean lastBatch = orphans.size() < batchSize;
+            lastFileId = orphans.getLast().fileId();
+            orphans = orphans.stream()
+                    .filter(orphan -> !protectedFileIds.contains(orphan.fileId()))
+                    .toList();
+            orphanFiles += orphans.size();
+
+            List<String> keys = new ArrayList<>();
+            if (dryRun) {
+                orphans.forEach(orphan -> keys.addAll(orphan.keys()));
+                deletedObjects += keys.size();
+            } else {
+                int[] counts = jdbcTemplate.batchUpdate(DELETE_SQL, orphans.stream()
+                        .map(orphan -> new Object[]{orphan.fileId(), cutoff})
+                        .toList());
+                for (int i = 0; i < orphans.size(); i++) {
+                    if (counts[i] > 0) {
+                        deletedFiles++;
+                        keys.addAll(orphans.get(i).keys());
+                    }
+                }
+                List<String> failedKeys = fileS3UploadService.deleteObjects(keys);
+                failedObjects += failedKeys.size();
+                deletedObjects += keys.size() - failedKeys.size();
+                deletedObjectCounter.increment(keys.size() - failedKeys.size());
+                if (!failedKeys.isEmpty()) {
+                    log.warn("S3 객체 삭제 실패: {}", failedKeys);
+                }
+            }
+            keys.stream().limit(MAX_SAMPLE_KEYS - sampleKeys.size()).forEach(sampleKeys::add);
+
+            if (lastBatch) {
+                break;
+            }
+            //S3 요청 속도 제한
+            pause();
+        }
+
+        return FileGcReport.builder()
+                .dryRun(dryRun)
+                .orphanFiles(orphanFiles)
+                .deletedFiles(deletedFiles)
+                .deletedObjects(deletedObjects)
+                .failedObjects(failedObjects)
+                .sampleKeys(sampleKeys)
+                .build();
+    }
+
+    private List<String> keysOf(String... urls) {
+        List<String> keys = new ArrayList<>();
+        for (String url : urls) {
+            if (url != null) {
+                keys.add(fileS3UploadService.toObjectKey(url));
+            }
+        }
+        return keys;
+    }
+
+    private void pause() {
+        if (batchDelayMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(batchDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record OrphanFile(long fileId, List<String> keys) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.arom.yeojung.service;
+
+import com.arom.yeojung.object.dto.FileGcReport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+//고아 파일 정리 관리용 actuator 엔드포인트 (management.endpoints.web.exposure.include 에 filegc 를 추가해야 노출)
+//GET 은 삭제 없이 대상만 보고(dry-run), POST 는 실제 정리 실행
+@Component
+@Endpoint(id = "filegc")
+@RequiredArgsConstructor
+public class FileGarbageCollectorEndpoint {
+
+    private final FileGarbageCollector fileGarbageCollector;
+
+    @ReadOperation
+    public FileGcReport dryRun() {
+        return fileGarbageCollector.collect(true);
+    }
+
+    @WriteOperation
+    public FileGcReport collect() {
+        return fileGarbageCollector.collect(false);
+    }
+}
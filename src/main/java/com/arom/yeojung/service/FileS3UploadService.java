@@ -2,71 +2,413 @@ package com.arom.yeojung.service;
 
 
 import com.arom.yeojung.object.File;
+import com.arom.yeojung.object.FileStatus;
+import com.arom.yeojung.object.User;
+import com.arom.yeojung.object.dto.PresignedUploadRequestDto;
+import com.arom.yeojung.object.dto.PresignedUploadResponseDto;
 import com.arom.yeojung.repository.FileRepository;
 import com.arom.yeojung.util.exception.CustomException;
 import com.arom.yeojung.util.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import com.arom.yeojung.util.s3.S3MultipartUploader;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import org.springframework.beans.factory.annotation.Value;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
 @Service
 @Slf4j
 public class FileS3UploadService {
-    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; //10MB 최대 파일 사이즈
+    //DeleteObjects 한 번에 지울 수 있는 최대 키 수
+    public static final int MAX_DELETE_KEYS = 1000;
+    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; //10MB 최대 파일 사이즈 (비디오는 멀티파트 업로드로 더 큰 파일 허용)
     private final String bucketName = "yeojung-bucket";
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3MultipartUploader s3MultipartUploader;
+    private final S3Presigner s3Presigner;
     private final FileService fileService;
+    //비동기 업로드 완료 후 DB 상태 변경을 실행할 스레드 (Netty 이벤트 루프에서 JDBC 를 호출하지 않도록)
+    private final Executor completionExecutor;
+    private final boolean asyncUpload;
+    private final Duration presignedExpiry;
+    //presigned 업로드로 받을 수 있는 비디오 최대 크기 (이미지 등은 MAX_FILE_SIZE)
+    private final long presignedMaxVideoSize;
 
-    public FileS3UploadService(FileService fileService) {
+    public FileS3UploadService(S3Client s3Client, S3AsyncClient s3AsyncClient,
+                               S3MultipartUploader s3MultipartUploader, S3Presigner s3Presigner,
+                               FileService fileService,
+                               @Qualifier("applicationTaskExecutor") Executor completionExecutor,
+                               @Value("${file.upload.async:false}") boolean asyncUpload,
+                               @Value("${file.presigned.expiry:10m}") Duration presignedExpiry,
+                               @Value("${file.presigned.max-video-size:1073741824}") long presignedMaxVideoSize) {
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3MultipartUploader = s3MultipartUploader;
+        this.s3Presigner = s3Presigner;
         this.fileService = fileService;
-        this.s3Client = S3Client.builder()
-                .region(Region.AP_NORTHEAST_2) //서울 지역
-                .credentialsProvider(StaticCredentialsProvider.create(
-                        AwsBasicCredentials.create(
-                                System.getenv("AWS_ACCESS_KEY"),
-                                System.getenv("AWS_SECRET_KEY"))
-                ))
-                .build();
+        this.completionExecutor = completionExecutor;
+        this.asyncUpload = asyncUpload;
+        this.presignedExpiry = presignedExpiry;
+        this.presignedMaxVideoSize = presignedMaxVideoSize;
+    }
+
+    //비동기 업로드 모드 여부
+    public boolean isAsyncUpload() {
+        return asyncUpload;
     }
 
     public File uploadAndSaveFile(MultipartFile file) {
-        if (file.getSize() > MAX_FILE_SIZE) {
+        boolean large = file.getSize() > MAX_FILE_SIZE;
+        if (large && !isVideo(file.getContentType())) {
             throw new CustomException(ErrorCode.FILE_SIZE_EXCEED);
         }
 
+        //같은 내용의 업로드 완료된 파일이 이미 있으면 업로드하지 않고 재사용
+        String contentHash = hash(file);
+        Optional<File> existing = fileService.findByContentHash(contentHash);
+        if (existing.isPresent() && existing.get().isReady()) {
+            return fileService.reuse(existing.get());
+        }
+        if (existing.isPresent()) {
+            contentHash = null; //같은 내용이 아직 업로드 중이면 기다리지 않고 해시 없이 새 파일로 저장
+        }
+
         String fileName = UUID.randomUUID() + "-" + file.getOriginalFilename();
         String fileUrl = "https://" + bucketName + ".s3.ap-northeast-2.amazonaws.com/" + fileName;
 
         try (InputStream inputStream = file.getInputStream()) { //inputStream 사용
+            //큰 비디오는 파트 단위로 나눠 병렬 업로드
+            if (large) {
+                s3MultipartUploader.upload(bucketName, fileName, file.getContentType(), inputStream);
+                return saveOrReuse(fileName, fileUrl, contentHash);
+            }
             s3Client.putObject(PutObjectRequest.builder()
                             .bucket(bucketName)
                             .key(fileName)
                             .contentType(file.getContentType())
                             .build(),
                     RequestBody.fromInputStream(inputStream, file.getSize())); //메모리 사용량 최적화
-            return fileService.save(fileName, fileUrl);
+            return saveOrReuse(fileName, fileUrl, contentHash);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    //비동기 업로드 (PENDING 상태의 파일을 바로 반환하고, S3 전송이 끝나면 READY/FAILED 로 변경)
+    //요청이 끝나면 MultipartFile 이 정리되므로 임시 파일로 복사한 뒤 전송한다.
+    //멀티파트 업로드 대상인 큰 비디오는 동기 업로드로 처리
+    public File uploadAndSaveFileAsync(MultipartFile file) {
+        if (file.getSize() > MAX_FILE_SIZE) {
+            return uploadAndSaveFile(file);
+        }
+
+        String contentHash = hash(file);
+        Optional<File> existing = fileService.findByContentHash(contentHash);
+        if (existing.isPresent() && existing.get().isReady()) {
+            return fileService.reuse(existing.get());
+        }
+        if (existing.isPresent()) {
+            contentHash = null; //같은 내용이 아직 업로드 중이면 기다리지 않고 해시 없이 새 파일로 저장
+        }
+
+        String fileName = UUID.randomUUID() + "-" + file.getOriginalFilename();
+        String fileUrl = "https://" + bucketName + ".s3.ap-northeast-2.amazonaws.com/" + fileName;
+
+        Path tempFile;
+        try {
+            tempFile = Files.createTempFile("upload-", null);
+            //transferTo 는 원본을 옮길 수 있으므로 복사 (이후 변형 이미지 생성에서 원본을 다시 읽음)
+            try (InputStream inputStream = file.getInputStream()) {
+                Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+
+        File pendingFile;
+        try {
+            pendingFile = savePendingOrReuse(fileName, fileUrl, contentHash);
+        } catch (RuntimeException e) {
+            deleteTempFile(tempFile);
+            throw e;
+        }
+        //같은 내용이 동시에 먼저 저장되어 업로드 완료된 파일을 재사용하면 전송하지 않음
+        if (pendingFile.isReady()) {
+            deleteTempFile(tempFile);
+            return pendingFile;
+        }
+
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(fileName)
+                .contentType(file.getContentType())
+                .build();
+
+        //트랜잭션 중이면 PENDING 파일이 커밋된 뒤에 전송 시작 (완료 처리에서 파일을 찾을 수 있도록)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        startAsyncUpload(pendingFile.getFileId(), request, tempFile);
+                    } else {
+                        deleteTempFile(tempFile);
+                    }
+                }
+            });
+        } else {
+            startAsyncUpload(pendingFile.getFileId(), request, tempFile);
+        }
+        return pendingFile;
+    }
+
+    private void startAsyncUpload(Long fileId, PutObjectRequest request, Path tempFile) {
+        s3AsyncClient.putObject(request, AsyncRequestBody.fromFile(tempFile))
+                .whenCompleteAsync((response, error) -> {
+                    deleteTempFile(tempFile);
+                    if (error != null) {
+                        log.error("비동기 업로드 실패: fileId: {}, key: {}", fileId, request.key(), error);
+                        fileService.updateStatus(fileId, FileStatus.FAILED);
+                        return;
+                    }
+                    fileService.updateStatus(fileId, FileStatus.READY);
+                }, completionExecutor);
+    }
+
+    private void deleteTempFile(Path tempFile) {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            log.warn("임시 업로드 파일 삭제 실패: {}", tempFile, e);
+        }
+    }
+
+    //비디오 스트리밍 업로드 (요청 본문을 다 받기 전에 읽은 만큼 파트로 나눠 S3 에 전송)
+    public File uploadAndSaveStream(InputStream inputStream, String originalFilename, String contentType) {
+        if (!isVideo(contentType)) {
+            throw new CustomException(ErrorCode.INVALID_FILE_TYPE);
+        }
+
+        String fileName = UUID.randomUUID() + "-" + originalFilename;
+        String fileUrl = "https://" + bucketName + ".s3.ap-northeast-2.amazonaws.com/" + fileName;
+
+        //스트림은 다시 읽을 수 없으므로 전송하면서 해시를 계산하고, 같은 내용이 이미 있으면 방금 올린 객체를 지움
+        MessageDigest digest = sha256();
+        s3MultipartUploader.upload(bucketName, fileName, contentType, new DigestInputStream(inputStream, digest));
+        String contentHash = HexFormat.of().formatHex(digest.digest());
+
+        Optional<File> existing = fileService.findByContentHash(contentHash);
+        if (existing.isPresent() && existing.get().isReady()) {
+            deleteObject(fileName);
+            return fileService.reuse(existing.get());
+        }
+        return saveOrReuse(fileName, fileUrl, existing.isPresent() ? null : contentHash);
+    }
+
+    //새 파일 저장, 같은 내용이 동시에 먼저 저장되었으면 방금 올린 객체를 지우고 그 파일을 재사용
+    //먼저 저장된 파일이 아직 업로드 중이면 재사용하지 않고 해시 없이 저장 (해시 고유 제약 충돌 방지)
+    private File saveOrReuse(String fileName, String fileUrl, String contentHash) {
+        try {
+            return fileService.save(fileName, fileUrl, contentHash);
+        } catch (DataIntegrityViolationException e) {
+            Optional<File> existing = fileService.findByContentHash(contentHash);
+            if (existing.isPresent() && existing.get().isReady()) {
+                deleteObject(fileName);
+                return fileService.reuse(existing.get());
+            }
+            return fileService.save(fileName, fileUrl, null);
+        }
+    }
+
+    //saveOrReuse 의 비동기 업로드용 (아직 S3 에 올리기 전이므로 지울 객체는 없음)
+    //같은 내용이 동시에 먼저 저장되었고 업로드 완료 상태면 그 파일을 재사용, 아니면 해시 없이 PENDING 으로 저장
+    private File savePendingOrReuse(String fileName, String fileUrl, String contentHash) {
+        try {
+            return fileService.savePending(fileName, fileUrl, contentHash);
+        } catch (DataIntegrityViolationException e) {
+            Optional<File> existing = fileService.findByContentHash(contentHash);
+            if (existing.isPresent() && existing.get().isReady()) {
+                return fileService.reuse(existing.get());
+            }
+            return fileService.savePending(fileName, fileUrl, null);
+        }
+    }
+
+    //업로드 파일의 SHA-256 해시 (MultipartFile 은 임시 파일이나 메모리에 있으므로 다시 읽어도 됨)
+    private String hash(MultipartFile file) {
+        MessageDigest digest = sha256();
+        try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
         } catch (IOException e) {
             throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
         }
+        return HexFormat.of().formatHex(digest.digest());
     }
 
-  // S3 파일 삭제
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void deleteObject(String fileName) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(fileName)
+                .build());
+    }
+
+    //presigned 업로드 1단계: PENDING 파일을 만들고 클라이언트가 S3 에 직접 PUT 할 URL 발급
+    //파일 바이트는 서버를 거치지 않으며, 크기와 content-type 이 서명에 포함되어 다른 값으로는 올릴 수 없다.
+    public PresignedUploadResponseDto createPresignedUpload(PresignedUploadRequestDto request, User currentUser) {
+        if (currentUser == null) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED);
+        }
+        if (request.getSize() == null || request.getSize() <= 0 || request.getContentType() == null) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        long maxSize = isVideo(request.getContentType()) ? presignedMaxVideoSize : MAX_FILE_SIZE;
+        if (request.getSize() > maxSize) {
+            throw new CustomException(ErrorCode.FILE_SIZE_EXCEED);
+        }
+
+        String fileName = UUID.randomUUID() + "-" + request.getFileName();
+        String fileUrl = "https://" + bucketName + ".s3.ap-northeast-2.amazonaws.com/" + fileName;
+        File pendingFile = fileService.saveReserved(fileName, fileUrl, currentUser.getUserId(),
+                request.getContentType(), request.getSize());
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(presignedExpiry)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(fileName)
+                        .contentType(request.getContentType())
+                        .contentLength(request.getSize())
+                        .build())
+                .build());
+
+        return PresignedUploadResponseDto.builder()
+                .fileId(pendingFile.getFileId())
+                .uploadUrl(presigned.url().toString())
+                .headers(presigned.signedHeaders())
+                .expiresAt(presigned.expiration())
+                .build();
+    }
+
+    //presigned 업로드 2단계: S3 에 객체가 올라왔는지 HEAD 로 확인한 뒤 READY 로 변경
+    //확인되지 않은 PENDING 파일은 참조가 없으므로 고아 파일 정리에서 삭제된다.
+    //예약한 사용자만 확인할 수 있고, 올라온 객체의 크기와 형식이 예약과 다르면 객체를 지우고 FAILED 로 변경
+    public File confirmPresignedUpload(Long fileId, User currentUser) {
+        File file = fileService.findById(fileId)
+                .orElseThrow(() -> new CustomException(ErrorCode.FILE_NOT_FOUND));
+        if (currentUser == null || file.getUploaderId() == null
+                || !file.getUploaderId().equals(currentUser.getUserId())) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED);
+        }
+        if (file.isReady()) {
+            return file;
+        }
+
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(file.getFileName())
+                    .build());
+            log.info("presigned 업로드 확인: fileId: {}, size: {}", fileId, head.contentLength());
+            if (!Objects.equals(head.contentLength(), file.getExpectedSize())
+                    || !Objects.equals(head.contentType(), file.getContentType())) {
+                log.warn("presigned 업로드 불일치: fileId: {}, 예약: {} {}, 업로드: {} {}", fileId,
+                        file.getExpectedSize(), file.getContentType(), head.contentLength(), head.contentType());
+                deleteObject(file.getFileName());
+                fileService.updateStatus(fileId, FileStatus.FAILED);
+                throw new CustomException(ErrorCode.FILE_UPLOAD_MISMATCH);
+            }
+        } catch (NoSuchKeyException e) {
+            throw new CustomException(ErrorCode.FILE_NOT_UPLOADED);
+        }
+
+        fileService.updateStatus(fileId, FileStatus.READY);
+        file.setStatus(FileStatus.READY);
+        return file;
+    }
+
+    //조회용 서명 URL 생성 (S3 호출 없이 로컬에서 서명만 계산)
+    public String presignGetUrl(String fileName, Duration expiry) {
+        return s3Presigner.presignGetObject(GetObjectPresignRequest.builder()
+                        .signatureDuration(expiry)
+                        .getObjectRequest(GetObjectRequest.builder()
+                                .bucket(bucketName)
+                                .key(fileName)
+                                .build())
+                        .build())
+                .url()
+                .toString();
+    }
+
+    //변형 이미지 업로드 (원본 키 앞에 variants/{이름}/ 을 붙여 원본 옆에 저장) 후 URL 반환
+    public String uploadVariant(String originalFileName, String variantName, byte[] bytes, String contentType) {
+        String fileName = "variants/" + variantName + "/" + originalFileName;
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(fileName)
+                        .contentType(contentType)
+                        .build(),
+                RequestBody.fromBytes(bytes));
+        return "https://" + bucketName + ".s3.ap-northeast-2.amazonaws.com/" + fileName;
+    }
+
+    private boolean isVideo(String contentType) {
+        return contentType != null && contentType.startsWith("video/");
+    }
+
+  // S3 파일 삭제 (같은 내용을 공유하는 다른 업로드가 있으면 참조만 해제)
   public void deleteFile(String fileUrl) {
+    if (!fileService.releaseByUrl(fileUrl)) {
+      log.info("다른 곳에서 사용 중인 파일이므로 S3 객체는 유지: {}", fileUrl);
+      return;
+    }
     String fileName = extractFileNameFromUrl(fileUrl);
 
     // 파일이 존재하는지 확인 후 삭제
@@ -81,6 +423,29 @@ public class FileS3UploadService {
     }
   }
 
+  // S3 객체 여러 개 삭제 (MAX_DELETE_KEYS 개씩 DeleteObjects 요청) 후 삭제에 실패한 키 반환
+  public List<String> deleteObjects(List<String> keys) {
+    List<String> failedKeys = new ArrayList<>();
+    for (int from = 0; from < keys.size(); from += MAX_DELETE_KEYS) {
+      List<ObjectIdentifier> objects = keys.subList(from, Math.min(from + MAX_DELETE_KEYS, keys.size())).stream()
+          .map(key -> ObjectIdentifier.builder().key(key).build())
+          .toList();
+      s3Client.deleteObjects(DeleteObjectsRequest.builder()
+              .bucket(bucketName)
+              .delete(Delete.builder().objects(objects).quiet(true).build())
+              .build())
+          .errors().stream()
+          .map(S3Error::key)
+          .forEach(failedKeys::add);
+    }
+    return failedKeys;
+  }
+
+  // 파일 URL 의 S3 객체 키
+  public String toObjectKey(String fileUrl) {
+    return extractFileNameFromUrl(fileUrl);
+  }
+
   // S3 파일 존재 여부 확인
   public boolean doesFileExist(String fileUrl) {
     String fileName = extractFileNameFromUrl(fileUrl);
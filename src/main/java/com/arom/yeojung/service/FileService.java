@@ -1,13 +1,18 @@
 package com.arom.yeojung.service;
 
 import com.arom.yeojung.object.File;
+import com.arom.yeojung.object.FileStatus;
+import com.arom.yeojung.object.ImageVariant;
 import com.arom.yeojung.repository.FileRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,6 +30,84 @@ public class FileService {
         return fileRepository.save(file);
     }
 
+    //파일 이름, url, 내용 해시 db에 저장
+    public File save(String fileName, String fileUrl, String contentHash) {
+        File file = new File();
+        file.setFileName(fileName);
+        file.setFileUrl(fileUrl);
+        file.setContentHash(contentHash);
+        return fileRepository.save(file);
+    }
+
+    //업로드 중인 파일 저장 (비동기 업로드 완료 시 상태 변경)
+    public File savePending(String fileName, String fileUrl, String contentHash) {
+        File file = new File();
+        file.setFileName(fileName);
+        file.setFileUrl(fileUrl);
+        file.setContentHash(contentHash);
+        file.setStatus(FileStatus.PENDING);
+        return fileRepository.save(file);
+    }
+
+    //presigned 업로드 예약 (예약한 사용자, 형식, 크기를 함께 저장해 업로드 확인 시 비교)
+    public File saveReserved(String fileName, String fileUrl, Long uploaderId, String contentType, Long expectedSize) {
+        File file = new File();
+        file.setFileName(fileName);
+        file.setFileUrl(fileUrl);
+        file.setStatus(FileStatus.PENDING);
+        file.setUploaderId(uploaderId);
+        file.setContentType(contentType);
+        file.setExpectedSize(expectedSize);
+        return fileRepository.save(file);
+    }
+
+    public Optional<File> findById(Long fileId) {
+        return fileRepository.findById(fileId);
+    }
+
+    //같은 내용의 파일 조회 (업로드 중인 행도 포함, 재사용 가능 여부는 File.isReady 로 확인)
+    public Optional<File> findByContentHash(String contentHash) {
+        return fileRepository.findByContentHash(contentHash);
+    }
+
+    //같은 내용의 기존 파일을 재사용 (고아 파일 정리 유예 기간을 다시 시작)
+    @Transactional
+    public File reuse(File file) {
+        fileRepository.touch(file.getFileId());
+        return file;
+    }
+
+    //url 의 파일을 더 이상 아무 곳에서도 참조하지 않아 S3 객체를 지워도 되면(db 에 없는 파일 포함) true
+    @Transactional
+    public boolean releaseByUrl(String fileUrl) {
+        Optional<File> file = fileRepository.findFirstByFileUrl(fileUrl);
+        if (file.isEmpty()) {
+            return true;
+        }
+        if (fileRepository.countReferenced(file.get().getFileId()) > 0) {
+            return false;
+        }
+        fileRepository.detachContent(file.get().getFileId());
+        return true;
+    }
+
+    //파일 업로드 상태 변경 (실패로 바꿀 때는 해시도 비움)
+    @Transactional
+    public void updateStatus(Long fileId, FileStatus status) {
+        if (status == FileStatus.FAILED) {
+            fileRepository.markFailed(fileId);
+            return;
+        }
+        fileRepository.updateStatus(fileId, status);
+    }
+
+    //변형 이미지 URL 기록
+    @Transactional
+    public void updateVariants(Long fileId, Map<ImageVariant, String> variantUrls) {
+        fileRepository.updateVariantUrls(fileId, variantUrls.get(ImageVariant.SMALL),
+                variantUrls.get(ImageVariant.MEDIUM), variantUrls.get(ImageVariant.LARGE));
+    }
+
     //파일 조회
     public File getFile(Long fileId) {
         return fileRepository.findById(fileId)
@@ -36,11 +119,17 @@ public class FileService {
         return fileRepository.findAll();
     }
 
-    //파일 삭제
+    //파일 삭제 (다이어리 컨텐츠, 썸네일, 프로필에서 아직 참조 중이면 유지)
+    //참조가 없으면 삭제 표시만 하고, 행과 S3 객체는 고아 파일 정리에서 삭제
+    @Transactional
     public void deleteFile(Long fileId) {
-        fileRepository.findById(fileId)
+        File file = fileRepository.findById(fileId)
                 .orElseThrow(() -> new RuntimeException("no file"));
 
-        fileRepository.deleteById(fileId);
+        if (fileRepository.countReferenced(fileId) > 0) {
+            return;
+        }
+        file.setContentHash(null);
+        file.markAsDeleted();
     }
 }
@@ -0,0 +1,109 @@
+package com.arom.yeojung.service;
+
+import com.arom.yeojung.object.dto.SignedFileUrlDto;
+import com.arom.yeojung.repository.FileRepository;
+import com.arom.yeojung.util.cache.TtlCache;
+import com.arom.yeojung.util.exception.CustomException;
+import com.arom.yeojung.util.exception.ErrorCode;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//파일 조회용 서명 URL 발급
+//발급한 URL 은 만료 refresh-margin 전까지 fileId 별로 캐시하여, 같은 파일을 반복 조회할 때 서명 계산과 DB 조회를 하지 않는다.
+//서명 URL 은 CDN/브라우저 캐시 만료를 맞추기 위한 것이며 접근 제어 수단이 아니다.
+//버킷은 공개 읽기이고 File, 다이어리 응답의 fileUrl 도 그대로 공개 URL 이므로, 여기서도 호출자의 열람 권한은 확인하지 않는다.
+//(비공개 파일을 보호하려면 버킷 공개 읽기와 응답의 공개 fileUrl 을 함께 제거해야 함)
+@Service
+public class FileUrlService {
+
+    private final FileRepository fileRepository;
+    private final FileS3UploadService fileS3UploadService;
+    private final Duration expiry;
+    private final int maxBatchSize;
+    private final TtlCache<Long, SignedFileUrlDto> cache;
+
+    public FileUrlService(FileRepository fileRepository, FileS3UploadService fileS3UploadService,
+                          @Value("${file.signed-url.expiry:15m}") Duration expiry,
+                          @Value("${file.signed-url.refresh-margin:1m}") Duration refreshMargin,
+                          @Value("${file.signed-url.cache.max-size:20000}") int cacheMaxSize,
+                          @Value("${file.signed-url.max-batch-size:200}") int maxBatchSize,
+                          MeterRegistry meterRegistry) {
+        if (refreshMargin.compareTo(expiry) >= 0) {
+            throw new IllegalArgumentException("file.signed-url.refresh-margin 은 expiry 보다 짧아야 합니다.");
+        }
+        this.fileRepository = fileRepository;
+        this.fileS3UploadService = fileS3UploadService;
+        this.expiry = expiry;
+        this.maxBatchSize = maxBatchSize;
+        this.cache = new TtlCache<>(cacheMaxSize, expiry.minus(refreshMargin));
+
+        FunctionCounter.builder("file.signed-url.cache.hits", cache, TtlCache::getHitCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("file.signed-url.cache.misses", cache, TtlCache::getMissCount)
+                .register(meterRegistry);
+    }
+
+    //파일 하나의 서명 URL
+    public SignedFileUrlDto getSignedUrl(Long fileId) {
+        List<SignedFileUrlDto> urls = getSignedUrls(List.of(fileId));
+        if (urls.isEmpty()) {
+            throw new CustomException(ErrorCode.FILE_NOT_FOUND);
+        }
+        return urls.getFirst();
+    }
+
+    //여러 파일의 서명 URL (요청 순서 유지, 없는 파일은 제외, 캐시에 없는 파일만 한 번에 조회)
+    public List<SignedFileUrlDto> getSignedUrls(List<Long> fileIds) {
+        Set<Long> ids = new LinkedHashSet<>(fileIds);
+        if (ids.size() > maxBatchSize) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+
+        Map<Long, SignedFileUrlDto> resolved = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long fileId : ids) {
+            SignedFileUrlDto cached = cache.get(fileId);
+            if (cached != null) {
+                resolved.put(fileId, cached);
+            } else {
+                misses.add(fileId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            for (Object[] row : fileRepository.findObjectKeysByFileIds(misses)) {
+                Long fileId = (Long) row[0];
+                Instant expiresAt = Instant.now().plus(expiry);
+                SignedFileUrlDto signed = new SignedFileUrlDto(fileId,
+                        fileS3UploadService.presignGetUrl((String) row[1], expiry), expiresAt);
+                cache.put(fileId, signed);
+                resolved.put(fileId, signed);
+            }
+        }
+
+        List<SignedFileUrlDto> result = new ArrayList<>(resolved.size());
+        for (Long fileId : ids) {
+            SignedFileUrlDto signed = resolved.get(fileId);
+            if (signed != null) {
+                result.add(signed);
+            }
+        }
+        return result;
+    }
+
+    //캐시된 서명 URL 제거 (파일 삭제 후 남은 만료 시간 동안 URL 이 계속 발급되지 않도록)
+    public void evict(Long fileId) {
+        cache.invalidate(fileId);
+    }
+}
@@ -0,0 +1,159 @@
+package com.arom.yeojung.service;
+
+import com.arom.yeojung.object.File;
+import com.arom.yeojung.object.ImageVariant;
+import com.arom.yeojung.util.image.ImageResizer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+//업로드한 이미지의 변형 이미지(160/480/1080px JPEG) 생성
+//요청 스레드에서는 원본 바이트만 읽고, 디코딩/축소/업로드는 크기가 제한된 워커 풀에서 처리한다.
+//대기열이 가득 찼거나 원본이 크기/픽셀 제한을 넘으면 원본을 메모리로 읽지 않고 건너뛰어 원본을 그대로 사용한다.
+@Service
+@Slf4j
+public class ImageVariantService implements DisposableBean {
+
+    //큰 크기부터 만들어 이전 결과를 다시 축소
+    private static final List<ImageVariant> VARIANTS = List.of(ImageVariant.LARGE, ImageVariant.MEDIUM, ImageVariant.SMALL);
+
+    private final FileS3UploadService fileS3UploadService;
+    private final FileService fileService;
+    private final boolean enabled;
+    private final long maxPixels;
+    private final long maxBytes;
+    private final float jpegQuality;
+    private final ThreadPoolExecutor executor;
+    private final Timer timer;
+
+    public ImageVariantService(FileS3UploadService fileS3UploadService, FileService fileService,
+                               @Value("${image.variants.enabled:true}") boolean enabled,
+                               @Value("${image.variants.pool-size:2}") int poolSize,
+                               @Value("${image.variants.queue-capacity:16}") int queueCapacity,
+                               @Value("${image.variants.max-pixels:40000000}") long maxPixels,
+                               @Value("${image.variants.max-bytes:10485760}") long maxBytes,
+                               @Value("${image.variants.jpeg-quality:0.85}") float jpegQuality,
+                               MeterRegistry meterRegistry) {
+        this.fileS3UploadService = fileS3UploadService;
+        this.fileService = fileService;
+        this.enabled = enabled;
+        this.maxPixels = maxPixels;
+        this.maxBytes = maxBytes;
+        this.jpegQuality = jpegQuality;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("image-variant-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timer = Timer.builder("image.variants")
+                .register(meterRegistry);
+        Gauge.builder("image.variants.queue.depth", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    //업로드한 파일이 이미지면 변형 이미지 생성 예약 (트랜잭션 중이면 커밋 이후)
+    public void generate(File file, MultipartFile source) {
+        if (!enabled || source.getContentType() == null || !source.getContentType().startsWith("image/")) {
+            return;
+        }
+        //같은 내용으로 재사용된 파일은 이미 변형 이미지가 있음
+        if (file.getSmallVariantUrl() != null) {
+            return;
+        }
+
+        //원본을 메모리로 읽기 전에 대기열 여유와 크기 제한 확인 (대기열은 커밋 이후 제출할 때 다시 확인)
+        if (executor.getQueue().remainingCapacity() == 0) {
+            log.warn("변형 이미지 대기열 초과, 원본 사용: fileId: {}, queueDepth: {}", file.getFileId(), executor.getQueue().size());
+            return;
+        }
+        if (source.getSize() > maxBytes) {
+            log.info("변형 이미지 생성 건너뜀 (너무 큰 파일): fileId: {}, size: {}", file.getFileId(), source.getSize());
+            return;
+        }
+
+        byte[] bytes;
+        try {
+            if (!withinPixelLimit(source)) {
+                log.info("변형 이미지 생성 건너뜀 (지원하지 않는 형식 또는 너무 큰 이미지): fileId: {}", file.getFileId());
+                return;
+            }
+            bytes = source.getBytes();
+        } catch (IOException e) {
+            log.warn("변형 이미지 원본 읽기 실패: fileId: {}", file.getFileId(), e);
+            return;
+        }
+
+        Long fileId = file.getFileId();
+        String fileName = file.getFileName();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(fileId, fileName, bytes);
+                }
+            });
+            return;
+        }
+        submit(fileId, fileName, bytes);
+    }
+
+    //헤더의 가로/세로만 읽어 픽셀 수 확인
+    private boolean withinPixelLimit(MultipartFile source) throws IOException {
+        try (InputStream inputStream = source.getInputStream()) {
+            long pixels = ImageResizer.pixelCount(inputStream);
+            return pixels >= 0 && pixels <= maxPixels;
+        }
+    }
+
+    private void submit(Long fileId, String fileName, byte[] bytes) {
+        try {
+            executor.execute(() -> timer.record(() -> process(fileId, fileName, bytes)));
+        } catch (RejectedExecutionException e) {
+            log.warn("변형 이미지 대기열 초과, 원본 사용: fileId: {}, queueDepth: {}", fileId, executor.getQueue().size());
+        }
+    }
+
+    private void process(Long fileId, String fileName, byte[] bytes) {
+        try {
+            BufferedImage current = ImageResizer.decode(bytes, maxPixels);
+            if (current == null) {
+                log.info("변형 이미지 생성 건너뜀 (지원하지 않는 형식 또는 너무 큰 이미지): fileId: {}", fileId);
+                return;
+            }
+
+            Map<ImageVariant, String> variantUrls = new EnumMap<>(ImageVariant.class);
+            for (ImageVariant variant : VARIANTS) {
+                current = ImageResizer.scaleDown(current, variant.getMaxEdge());
+                byte[] jpeg = ImageResizer.encodeJpeg(current, jpegQuality);
+                variantUrls.put(variant, fileS3UploadService.uploadVariant(fileName + ".jpg",
+                        variant.name().toLowerCase(Locale.ROOT), jpeg, "image/jpeg"));
+            }
+            fileService.updateVariants(fileId, variantUrls);
+        } catch (IOException | RuntimeException e) {
+            log.error("변형 이미지 생성 실패: fileId: {}", fileId, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -11,46 +11,100 @@ import com.arom.yeojung.repository.UserRepository;
 import com.arom.yeojung.util.exception.CustomException;
 import com.arom.yeojung.util.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.NoSuchElementException;
 
 @Service
 @RequiredArgsConstructor
 public class LikeService extends BaseTimeEntity {
+    private static final String INSERT_LIKE_SQL =
+            "insert into likes (user_id, diary_id, created_date, updated_date, is_deleted, is_updated) "
+                    + "values (?, ?, ?, ?, false, false)";
+
     private final LikeRepository likeRepository;
     private final UserRepository userRepository;
     private final DiaryRepository diaryRepository;
+    private final DiaryCounterService diaryCounterService;
+    private final DiaryLikerCache diaryLikerCache;
+    private final JdbcTemplate jdbcTemplate;
 
-    //좋아요 생성
+    //좋아요 생성 (이미 좋아요한 경우 중복 생성하지 않음)
+    @Transactional
     public LikeDto createLike(LikeDto likeDto) {
-        User user = userRepository.findById(likeDto.getUserId())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        return setLike(likeDto.getUserId(), likeDto.getDiaryId(), true);
+    }
 
-        Diary diary = diaryRepository.findById(likeDto.getDiaryId())
-                .orElseThrow(() -> new CustomException(ErrorCode.DIARY_NOT_FOUND));
+    //좋아요 상태 지정 (같은 요청을 여러 번 보내도 결과가 같음)
+    @Transactional
+    public LikeDto setLike(Long userId, Long diaryId, boolean liked) {
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+        if (!diaryRepository.existsById(diaryId)) {
+            throw new CustomException(ErrorCode.DIARY_NOT_FOUND);
+        }
 
-        Like like = new Like();
-        like.setUser(user);
-        like.setDiary(diary);
-        likeRepository.save(like);
+        //실제로 추가/삭제된 경우에만 좋아요 수와 캐시 갱신
+        if (liked) {
+            if (insertIfAbsent(userId, diaryId)) {
+                diaryCounterService.increaseLikeCount(diaryId);
+                diaryLikerCache.update(diaryId, userId, true);
+            }
+        } else {
+            removeLike(userId, diaryId);
+        }
+
+        LikeDto likeDto = new LikeDto();
+        likeDto.setUserId(userId);
+        likeDto.setDiaryId(diaryId);
+        likeDto.setLiked(liked);
         return likeDto;
     }
 
     //좋아요 삭제
+    @Transactional
     public String deleteLike(LikeDto likeDto, User currentUser) {
         Like like = likeRepository.findByUser_UserIdAndDiary_DiaryId(likeDto.getUserId(), likeDto.getDiaryId())
                 .orElseThrow(() -> new CustomException(ErrorCode.LIKE_NOT_FOUND));
 
         validateAuthorization(like, currentUser);
 
-        likeRepository.delete(like);
+        removeLike(likeDto.getUserId(), likeDto.getDiaryId());
         return "success";
     }
 
+    private void removeLike(Long userId, Long diaryId) {
+        if (likeRepository.deleteByUserIdAndDiaryId(userId, diaryId) > 0) {
+            diaryCounterService.decreaseLikeCount(diaryId);
+            diaryLikerCache.update(diaryId, userId, false);
+        }
+    }
+
+    //좋아요 추가, 이미 좋아요한 경우(유니크 제약 uk_likes_user_diary) false 반환
+    //JDBC 로 실행해 중복 키 오류가 JPA 트랜잭션을 rollback-only 로 만들지 않도록 하고,
+    //외래 키 오류(다이어리, 사용자 없음)는 그대로 전파
+    private boolean insertIfAbsent(Long userId, Long diaryId) {
+        if (likeRepository.findByUser_UserIdAndDiary_DiaryId(userId, diaryId).isPresent()) {
+            return false;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            return jdbcTemplate.update(INSERT_LIKE_SQL, userId, diaryId, now, now) > 0;
+        } catch (DuplicateKeyException e) {
+            //동시에 들어온 같은 좋아요 요청
+            return false;
+        }
+    }
+
     // 권한 검증 로직 (사용자가 작성한 좋아요인지 확인)
     private void validateAuthorization(Like like, User currentUser) {
-        if (!like.getUser().equals(currentUser)) {
+        if (currentUser == null || !like.getUser().getUserId().equals(currentUser.getUserId())) {
             throw new CustomException(ErrorCode.ACCESS_DENIED);
         }
     }
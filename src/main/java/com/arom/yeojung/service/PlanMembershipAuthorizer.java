@@ -0,0 +1,88 @@
+package com.arom.yeojung.service;
+
+import com.arom.yeojung.object.User;
+import com.arom.yeojung.object.constants.PlanRole;
+import com.arom.yeojung.repository.UserPlanRepository;
+import com.arom.yeojung.util.cache.TtlCache;
+import com.arom.yeojung.util.exception.CustomException;
+import com.arom.yeojung.util.exception.ErrorCode;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 여행 계획(TotalPlan) 멤버 권한 검증
+// TotalPlan.members 와 각 UserPlan.user 를 불러오지 않고 (userId, totalPlanId) 로 역할만 조회하며,
+// 조회한 역할은 잠시 캐시해 같은 계획을 연속으로 수정할 때 쿼리가 반복되지 않도록 함
+// 캐시는 TTL 로만 만료됨: 멤버는 계획 생성 시 OWNER 로만 추가되고 역할 변경이나 탈퇴 기능이 없어
+// 캐시된 역할이 DB 와 달라질 일이 없다. 멤버 초대/제거/역할 변경이 생기면 그 변경이 커밋된 뒤
+// 해당 (userId, totalPlanId) 항목을 지우도록 해야 한다 (그 전까지는 최대 TTL 동안 이전 역할이 유지됨).
+@Component
+@Slf4j
+public class PlanMembershipAuthorizer {
+
+  private final UserPlanRepository userPlanRepository;
+  // 멤버가 아닌 경우는 캐시하지 않음 (새로 초대된 멤버가 TTL 동안 거부되지 않도록)
+  private final TtlCache<MemberKey, PlanRole> roleCache;
+
+  public PlanMembershipAuthorizer(UserPlanRepository userPlanRepository,
+      @Value("${plan.membership-cache.max-size:10000}") int maxSize,
+      @Value("${plan.membership-cache.ttl:1m}") Duration ttl,
+      MeterRegistry meterRegistry) {
+    this.userPlanRepository = userPlanRepository;
+    this.roleCache = new TtlCache<>(maxSize, ttl);
+
+    FunctionCounter.builder("plan.membership.cache.hits", roleCache, TtlCache::getHitCount)
+        .register(meterRegistry);
+    FunctionCounter.builder("plan.membership.cache.misses", roleCache, TtlCache::getMissCount)
+        .register(meterRegistry);
+  }
+
+  // 멤버(OWNER 포함)인지 검증
+  public void validateMember(Long totalPlanId, User currentUser) {
+    if (findRole(totalPlanId, currentUser) == null) {
+      log.error("권한이 없는 사용자의 요청: totalPlanId: {}, userId: {}", totalPlanId, userIdOf(currentUser));
+      throw new CustomException(ErrorCode.ACCESS_DENIED);
+    }
+  }
+
+  // OWNER 인지 검증
+  public void validateOwner(Long totalPlanId, User currentUser) {
+    if (findRole(totalPlanId, currentUser) != PlanRole.OWNER) {
+      log.error("OWNER 권한이 없는 사용자의 요청: totalPlanId: {}, userId: {}", totalPlanId, userIdOf(currentUser));
+      throw new CustomException(ErrorCode.ACCESS_DENIED);
+    }
+  }
+
+  // 사용자의 역할 반환 (멤버가 아니면 null)
+  public PlanRole findRole(Long totalPlanId, User currentUser) {
+    Long userId = userIdOf(currentUser);
+    if (userId == null || totalPlanId == null) {
+      return null;
+    }
+
+    MemberKey key = new MemberKey(userId, totalPlanId);
+    PlanRole cached = roleCache.get(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    List<PlanRole> roles = userPlanRepository.findRoles(userId, totalPlanId);
+    PlanRole role = roles.contains(PlanRole.OWNER) ? PlanRole.OWNER
+        : roles.isEmpty() ? null : roles.getFirst();
+    if (role != null) {
+      roleCache.put(key, role);
+    }
+    return role;
+  }
+
+  private Long userIdOf(User user) {
+    return user == null ? null : user.getUserId();
+  }
+
+  private record MemberKey(Long userId, Long totalPlanId) {
+  }
+}
@@ -0,0 +1,163 @@
+package com.arom.yeojung.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+//소프트 딜리트된 여행 계획 정리
+//삭제 표시 후 retention 이 지난 SubPlan, DailyPlan, TotalPlan 을 하위 행(예산, 수정자, 멤버)과 함께 배치 단위로 완전히 삭제한다.
+//배치마다 짧은 트랜잭션으로 처리하며, 하위 행부터 지우므로 중간에 실패해도 다음 실행에서 이어서 정리된다.
+@Service
+@Slf4j
+public class PlanTombstonePurger {
+
+    private static final String TOMBSTONE_CONDITION =
+            "is_deleted = true and coalesce(updated_date, created_date) < ?";
+    //다이어리나 체크리스트가 참조하는 여행 계획은 삭제 표시만 유지 (%1$s: total_plan_id 컬럼)
+    private static final String TOTAL_PLAN_REFERENCE_CONDITION =
+            "not exists (select 1 from diary d where d.total_plan_total_plan_id = %1$s) "
+                    + "and not exists (select 1 from check_list c where c.plan_id = %1$s)";
+
+    private static final String SCAN_SUB_PLAN_SQL =
+            "select sub_plan_id from sub_plan where " + TOMBSTONE_CONDITION + " order by sub_plan_id limit ?";
+    private static final String SCAN_DAILY_PLAN_SQL =
+            "select daily_plan_id from daily_plan where " + TOMBSTONE_CONDITION + " order by daily_plan_id limit ?";
+    private static final String SCAN_TOTAL_PLAN_SQL =
+            "select t.total_plan_id from total_plan t "
+                    + "where t.is_deleted = true and coalesce(t.updated_date, t.created_date) < ? "
+                    + "and " + TOTAL_PLAN_REFERENCE_CONDITION.formatted("t.total_plan_id") + " "
+                    + "order by t.total_plan_id limit ?";
+
+    //하위 행 삭제 조건: 부모가 지금도 삭제 대상인지 트랜잭션 안에서 다시 확인 (스캔 이후 복구되거나 다시 참조된 계획은 건드리지 않음)
+    //모든 삭제문의 파라미터는 (id, cutoff)
+    private static final String SUB_PLAN_GUARD =
+            "select p.sub_plan_id from sub_plan p where p.sub_plan_id = ? "
+                    + "and p.is_deleted = true and coalesce(p.updated_date, p.created_date) < ?";
+    private static final String DAILY_PLAN_GUARD =
+            "select p.daily_plan_id from daily_plan p where p.daily_plan_id = ? "
+                    + "and p.is_deleted = true and coalesce(p.updated_date, p.created_date) < ?";
+    private static final String TOTAL_PLAN_GUARD =
+            "select p.total_plan_id from total_plan p where p.total_plan_id = ? "
+                    + "and p.is_deleted = true and coalesce(p.updated_date, p.created_date) < ? and "
+                    + TOTAL_PLAN_REFERENCE_CONDITION.formatted("p.total_plan_id");
+
+    //삭제 대상 자신은 MySQL 에서 같은 테이블을 서브쿼리로 읽을 수 없으므로 조건을 직접 적용
+    private static final List<String> PURGE_SUB_PLAN_SQL = List.of(
+            "delete from budget where sub_plan_id in (" + SUB_PLAN_GUARD + ")",
+            "delete from sub_plan_updaters where sub_plan_id in (" + SUB_PLAN_GUARD + ")",
+            "delete from sub_plan where sub_plan_id = ? and " + TOMBSTONE_CONDITION);
+
+    //삭제된 일차에 남아 있는 세부 일정도 함께 삭제
+    private static final List<String> PURGE_DAILY_PLAN_SQL = List.of(
+            "delete from budget where sub_plan_id in (select s.sub_plan_id from sub_plan s "
+                    + "where s.daily_plan_id in (" + DAILY_PLAN_GUARD + "))",
+            "delete from sub_plan_updaters where sub_plan_id in (select s.sub_plan_id from sub_plan s "
+                    + "where s.daily_plan_id in (" + DAILY_PLAN_GUARD + "))",
+            "delete from sub_plan where daily_plan_id in (" + DAILY_PLAN_GUARD + ")",
+            "delete from daily_plan where daily_plan_id = ? and " + TOMBSTONE_CONDITION);
+
+    //삭제된 여행 계획의 일차, 세부 일정, 멤버를 함께 삭제
+    private static final List<String> PURGE_TOTAL_PLAN_SQL = List.of(
+            "delete from budget where sub_plan_id in (select s.sub_plan_id from sub_plan s "
+                    + "join daily_plan d on d.daily_plan_id = s.daily_plan_id "
+                    + "where d.total_plan_id in (" + TOTAL_PLAN_GUARD + "))",
+            "delete from sub_plan_updaters where sub_plan_id in (select s.sub_plan_id from sub_plan s "
+                    + "join daily_plan d on d.daily_plan_id = s.daily_plan_id "
+                    + "where d.total_plan_id in (" + TOTAL_PLAN_GUARD + "))",
+            "delete from sub_plan where daily_plan_id in (select d.daily_plan_id from daily_plan d "
+                    + "where d.total_plan_id in (" + TOTAL_PLAN_GUARD + "))",
+            "delete from daily_plan where total_plan_id in (" + TOTAL_PLAN_GUARD + ")",
+            "delete from user_plan where total_plan_id in (" + TOTAL_PLAN_GUARD + ")",
+            "delete from total_plan where total_plan_id = ? and " + TOMBSTONE_CONDITION + " and "
+                    + TOTAL_PLAN_REFERENCE_CONDITION.formatted("total_plan.total_plan_id"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Counter purgedCounter;
+
+    public PlanTombstonePurger(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               @Value("${plan.purge.enabled:true}") boolean enabled,
+                               @Value("${plan.purge.retention:30d}") Duration retention,
+                               @Value("${plan.purge.batch-size:500}") int batchSize,
+                               @Value("${plan.purge.max-batches-per-run:20}") int maxBatchesPerRun,
+                               MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.purgedCounter = Counter.builder("plan.purge.deleted")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${plan.purge.interval:6h}", initialDelayString = "${plan.purge.initial-delay:15m}")
+    public void scheduledPurge() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+            //하위 계층부터 정리
+            long subPlans = purge(SCAN_SUB_PLAN_SQL, PURGE_SUB_PLAN_SQL, cutoff);
+            long dailyPlans = purge(SCAN_DAILY_PLAN_SQL, PURGE_DAILY_PLAN_SQL, cutoff);
+            long totalPlans = purge(SCAN_TOTAL_PLAN_SQL, PURGE_TOTAL_PLAN_SQL, cutoff);
+            if (subPlans + dailyPlans + totalPlans > 0) {
+                log.info("소프트 딜리트 정리: SubPlan: {}, DailyPlan: {}, TotalPlan: {}", subPlans, dailyPlans, totalPlans);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    //삭제 대상 id 를 배치로 조회해 하위 행부터 삭제, 삭제된 대상 수 반환
+    private long purge(String scanSql, List<String> purgeSql, Timestamp cutoff) {
+        long purged = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            //삭제문마다 부모 조건을 다시 확인하도록 (id, cutoff) 로 전달
+            List<Object[]> ids = jdbcTemplate.query(scanSql,
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), cutoff}, cutoff, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            int[] counts = transactionTemplate.execute(status -> {
+                int[] last = null;
+                for (String sql : purgeSql) {
+                    last = jdbcTemplate.batchUpdate(sql, ids);
+                }
+                return last;
+            });
+            long deleted = 0;
+            for (int count : counts) {
+                //드라이버가 배치를 재작성하면 SUCCESS_NO_INFO(-2) 가 반환될 수 있음
+                deleted += count != 0 ? 1 : 0;
+            }
+            purged += deleted;
+            purgedCounter.increment(deleted);
+
+            //마지막 배치이거나 더 이상 지울 수 없는 행만 남은 경우 종료
+            if (ids.size() < batchSize || deleted == 0) {
+                break;
+            }
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,88 @@
+package com.arom.yeojung.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+//공유 파일 참조 컬럼의 예전 고유 인덱스 정리
+//DiaryContent.file, Diary.thumbnailFile 이 @OneToOne 이던 때 Hibernate 가 조인 컬럼에 고유 인덱스를 만들었는데,
+//ddl-auto=update 는 제약을 지우지 않으므로 같은 파일을 두 번째로 공유하는 순간 insert 가 실패한다.
+//시작 시 해당 컬럼 하나로만 이루어진 고유 인덱스를 찾아 삭제한다. (외래 키용 일반 인덱스는 엔티티의 @Index 로 먼저 생성됨)
+//삭제에 실패하면 로그에 남긴 alter 문을 수동으로 실행해야 한다.
+@Component
+@Slf4j
+public class SharedFileIndexMigration {
+
+    //테이블 -> 파일을 공유하는 조인 컬럼
+    private static final Map<String, String> SHARED_FILE_COLUMNS = Map.of(
+            "diary_content", "file_id",
+            "diary", "thumbnail_file_file_id");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public SharedFileIndexMigration(JdbcTemplate jdbcTemplate,
+                                    @Value("${file.shared-index-migration.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void dropLegacyUniqueIndexes() {
+        if (!enabled) {
+            return;
+        }
+        SHARED_FILE_COLUMNS.forEach((table, column) -> {
+            for (String indexName : findSingleColumnUniqueIndexes(table, column)) {
+                String sql = "alter table " + table + " drop index " + indexName;
+                try {
+                    jdbcTemplate.execute(sql);
+                    log.info("공유 파일 컬럼의 예전 고유 인덱스 삭제: {}.{} ({})", table, column, indexName);
+                } catch (DataAccessException e) {
+                    log.warn("공유 파일 컬럼의 예전 고유 인덱스 삭제 실패, 수동으로 실행 필요: {}", sql, e);
+                }
+            }
+        });
+    }
+
+    //column 하나로만 이루어진 고유 인덱스 이름 (기본 키 제외)
+    private List<String> findSingleColumnUniqueIndexes(String table, String column) {
+        return jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase() : table;
+
+            Map<String, List<String>> columnsByIndex = new LinkedHashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(),
+                    tableName, true, false)) {
+                while (rs.next()) {
+                    String indexName = rs.getString("INDEX_NAME");
+                    String columnName = rs.getString("COLUMN_NAME");
+                    if (indexName == null || columnName == null || "PRIMARY".equalsIgnoreCase(indexName)) {
+                        continue;
+                    }
+                    columnsByIndex.computeIfAbsent(indexName, name -> new ArrayList<>()).add(columnName);
+                }
+            }
+
+            List<String> indexNames = new ArrayList<>();
+            columnsByIndex.forEach((indexName, columns) -> {
+                if (columns.size() == 1 && columns.getFirst().equalsIgnoreCase(column)) {
+                    indexNames.add(indexName);
+                }
+            });
+            return indexNames;
+        });
+    }
+}
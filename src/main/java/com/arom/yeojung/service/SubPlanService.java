@@ -25,6 +25,7 @@ public class SubPlanService {
   private final SubPlanRepository subPlanRepository;
   private final DailyPlanRepository dailyPlanRepository;
   private final TotalPlanRepository totalPlanRepository;
+  private final PlanMembershipAuthorizer planMembershipAuthorizer;
 
   // 단일 SubPlan 조회
   @Transactional(readOnly = true)
@@ -48,9 +49,9 @@ public class SubPlanService {
   @Transactional(readOnly = true)
   public List<SubPlanResponseDTO> getAllSubPlans(Long totalPlanId, Long dailyPlanId) {
     DailyPlan dailyPlan = findDailyPlanWithValidation(totalPlanId, dailyPlanId);
+    // 소프트 딜리트된 일정은 조회 쿼리에서 제외됨
     List<SubPlan> subPlans = subPlanRepository.findByDailyPlan(dailyPlan);
     return subPlans.stream()
-        .filter(sp -> !sp.getIsDeleted())
         .map(sp -> SubPlanResponseDTO.builder()
             .subPlanId(sp.getSubPlanId())
             .subPlanTitle(sp.getSubPlanTitle())
@@ -67,7 +68,7 @@ public class SubPlanService {
     // TotalPlan 조회 및 권한 검증
     TotalPlan totalPlan = totalPlanRepository.findById(totalPlanId)
         .orElseThrow(() -> new CustomException(ErrorCode.TOTAL_PLAN_NOT_FOUND));
-    validateAuthorization(totalPlan, currentUser);
+    planMembershipAuthorizer.validateMember(totalPlan.getTotalPlanId(), currentUser);
     // DailyPlan 조회 및 검증
     DailyPlan dailyPlan = dailyPlanRepository.findById(dailyPlanId)
         .orElseThrow(() -> new CustomException(ErrorCode.DAILY_PLAN_NOT_FOUND));
@@ -102,7 +103,7 @@ public class SubPlanService {
       SubPlanRequestDTO requestDTO, User currentUser) {
     SubPlan subPlan = findSubPlanWithValidation(totalPlanId, dailyPlanId, subPlanId);
     // 권한 검증
-    validateAuthorization(subPlan.getDailyPlan().getTotalPlan(), currentUser);
+    planMembershipAuthorizer.validateMember(totalPlanId, currentUser);
 
     subPlan.setSubPlanTitle(requestDTO.getSubPlanTitle());
     subPlan.setSubPlanDescription(requestDTO.getSubPlanDescription());
@@ -122,7 +123,7 @@ public class SubPlanService {
   @Transactional
   public void deleteSubPlan(Long totalPlanId, Long dailyPlanId, Long subPlanId, User currentUser) {
     SubPlan subPlan = findSubPlanWithValidation(totalPlanId, dailyPlanId, subPlanId);
-    validateAuthorization(subPlan.getDailyPlan().getTotalPlan(), currentUser);
+    planMembershipAuthorizer.validateMember(totalPlanId, currentUser);
     subPlan.markAsDeleted();
     subPlanRepository.save(subPlan);
   }
@@ -150,16 +151,4 @@ public class SubPlanService {
     }
     return dailyPlan;
   }
-
-  // TotalPlan에 연결된 멤버 확인
-  private void validateAuthorization(TotalPlan totalPlan, User currentUser) {
-    if (totalPlan == null) {
-      throw new CustomException(ErrorCode.TOTAL_PLAN_NOT_FOUND);
-    }
-    boolean isAuthorized = totalPlan.getMembers().stream()
-        .anyMatch(up -> up.getUser().equals(currentUser));
-    if (!isAuthorized) {
-      throw new CustomException(ErrorCode.ACCESS_DENIED);
-    }
-  }
 }
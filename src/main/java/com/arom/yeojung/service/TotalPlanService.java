@@ -6,21 +6,31 @@ import com.arom.yeojung.object.UserPlan;
 import com.arom.yeojung.object.constants.PlanRole;
 import com.arom.yeojung.object.dto.TotalPlanRequestDTO;
 import com.arom.yeojung.object.dto.TotalPlanResponseDTO;
+import com.arom.yeojung.object.dto.TripSummaryDTO;
+import com.arom.yeojung.object.dto.TripSummaryPageDTO;
 import com.arom.yeojung.repository.TotalPlanRepository;
 import com.arom.yeojung.util.exception.CustomException;
 import com.arom.yeojung.util.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class TotalPlanService {
 
+  private static final int MAX_TRIP_PAGE_SIZE = 50;
+
   private final TotalPlanRepository totalPlanRepository;
+  private final PlanMembershipAuthorizer planMembershipAuthorizer;
+  private final DailyPlanGridService dailyPlanGridService;
 
   // 단일 totalPlan 조회
   @Transactional(readOnly = true)
@@ -71,7 +81,15 @@ public class TotalPlanService {
       throw new CustomException(ErrorCode.TOTAL_PLAN_ALREADY_DELETED);
     }
 
-    validateOwnerAuthorization(totalPlan, currentUser);
+    planMembershipAuthorizer.validateOwner(totalPlanId, currentUser);
+
+    // 시작일이 종료일보다 늦으면 일차를 만들 수 없으므로 거부
+    if (requestDTO.getStartDate().isAfter(requestDTO.getEndDate())) {
+      throw new CustomException(ErrorCode.INVALID_REQUEST);
+    }
+
+    LocalDate oldStartDate = totalPlan.getStartDate();
+    LocalDate oldEndDate = totalPlan.getEndDate();
 
     totalPlan.setTitle(requestDTO.getTitle());
     totalPlan.setStartDate(requestDTO.getStartDate());
@@ -84,6 +102,9 @@ public class TotalPlanService {
 
     totalPlanRepository.save(totalPlan);
 
+    // 기간이 바뀌면 DailyPlan 을 새 기간에 맞춤 (같은 트랜잭션)
+    dailyPlanGridService.regenerateDays(totalPlan, oldStartDate, oldEndDate);
+
     return mapToResponseDto(totalPlan);
   }
 
@@ -94,7 +115,7 @@ public class TotalPlanService {
     TotalPlan totalPlan = totalPlanRepository.findById(totalPlanId)
         .orElseThrow(() -> new CustomException(ErrorCode.TOTAL_PLAN_NOT_FOUND));
 
-    validateOwnerAuthorization(totalPlan, currentUser);
+    planMembershipAuthorizer.validateOwner(totalPlanId, currentUser);
 
     // 이미 소프트 딜리트된 경우 에러 처리
     if (totalPlan.getIsDeleted()) {
@@ -106,25 +127,51 @@ public class TotalPlanService {
     totalPlanRepository.save(totalPlan);
   }
 
-  // 모두 조회 (소프트 딜리트x만 반환)
+  // 내 여행 목록 조회 (멤버로 참여한 계획만, 시작일 최신순 커서 기반 페이지네이션)
   @Transactional(readOnly = true)
-  public List<TotalPlanResponseDTO> getAllTotalPlans() {
-    List<TotalPlan> totalPlans = totalPlanRepository.findAll();
-    return totalPlans.stream()
-        .filter(plan -> !plan.getIsDeleted())
-        .map(this::mapToResponseDto)
-        .collect(Collectors.toList());
-  }
+  public TripSummaryPageDTO getMyTrips(LocalDate cursorStartDate, Long cursorTotalPlanId, int size,
+      User currentUser) {
+    if (currentUser == null || currentUser.getUserId() == null) {
+      throw new CustomException(ErrorCode.ACCESS_DENIED);
+    }
+    int pageSize = Math.clamp(size, 1, MAX_TRIP_PAGE_SIZE);
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    Pageable limit = PageRequest.of(0, pageSize + 1);
+
+    // 커서의 시작일이 없으면 시작일이 없는 계획 구간을 이어서 조회
+    Long userId = currentUser.getUserId();
+    List<TripSummaryDTO> trips;
+    if (cursorTotalPlanId == null) {
+      trips = totalPlanRepository.findMyTrips(userId, limit);
+    } else if (cursorStartDate == null) {
+      trips = totalPlanRepository.findMyUndatedTripsAfter(userId, cursorTotalPlanId, limit);
+    } else {
+      trips = totalPlanRepository.findMyTripsAfter(userId, cursorStartDate, cursorTotalPlanId, limit);
+    }
 
-  // OWNER 권한 검증
-  private void validateOwnerAuthorization(TotalPlan totalPlan, User currentUser) {
-    boolean isOwner = totalPlan.getMembers().stream()
-        .anyMatch(up -> up.getUser().equals(currentUser)
-                && up.getRole() == com.arom.yeojung.object.constants.PlanRole.OWNER);
+    boolean hasNext = trips.size() > pageSize;
+    if (hasNext) {
+      trips = trips.subList(0, pageSize);
+    }
 
-    if (!isOwner) {
-      throw new CustomException(ErrorCode.ACCESS_DENIED);
+    // 대표 위치 (페이지 단위로 한 번에 조회, DB 에서 계획별 첫 번째 위치 하나만 반환)
+    if (!trips.isEmpty()) {
+      Map<Long, TripSummaryDTO> tripById = new HashMap<>();
+      trips.forEach(trip -> tripById.put(trip.getTotalPlanId(), trip));
+      for (Object[] row : totalPlanRepository.findCoverLocations(tripById.keySet())) {
+        TripSummaryDTO trip = tripById.get(((Number) row[0]).longValue());
+        trip.setCoverLocationId(((Number) row[1]).longValue());
+        trip.setCoverCity((String) row[2]);
+        trip.setCoverDistrict((String) row[3]);
+      }
     }
+
+    TripSummaryDTO last = trips.isEmpty() ? null : trips.getLast();
+    return new TripSummaryPageDTO(
+        trips,
+        hasNext ? last.getStartDate() : null,
+        hasNext ? last.getTotalPlanId() : null,
+        hasNext);
   }
 
   private TotalPlanResponseDTO mapToResponseDto(TotalPlan totalPlan) {
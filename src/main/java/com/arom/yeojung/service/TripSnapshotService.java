@@ -0,0 +1,110 @@
+package com.arom.yeojung.service;
+
+import com.arom.yeojung.object.Budget;
+import com.arom.yeojung.object.TotalPlan;
+import com.arom.yeojung.object.User;
+import com.arom.yeojung.object.dto.BudgetResponseDTO;
+import com.arom.yeojung.object.dto.TripDaySnapshotDTO;
+import com.arom.yeojung.object.dto.TripSnapshotResponseDTO;
+import com.arom.yeojung.object.dto.TripSubPlanSnapshotDTO;
+import com.arom.yeojung.repository.BudgetRepository;
+import com.arom.yeojung.repository.DailyPlanRepository;
+import com.arom.yeojung.repository.SubPlanRepository;
+import com.arom.yeojung.repository.TotalPlanRepository;
+import com.arom.yeojung.util.exception.CustomException;
+import com.arom.yeojung.util.exception.ErrorCode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 여행 전체(TotalPlan -> DailyPlan -> SubPlan -> Budget)를 한 번에 조회
+// 단계마다 상위 id 목록으로 IN 조회 한 번씩 실행하므로 일정 개수와 관계없이 쿼리 수가 고정됨
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TripSnapshotService {
+
+  // IN 절에 한 번에 넣는 id 개수 (이보다 많으면 나눠서 조회)
+  private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+  private final TotalPlanRepository totalPlanRepository;
+  private final DailyPlanRepository dailyPlanRepository;
+  private final SubPlanRepository subPlanRepository;
+  private final BudgetRepository budgetRepository;
+  private final PlanMembershipAuthorizer planMembershipAuthorizer;
+
+  @Transactional(readOnly = true)
+  public TripSnapshotResponseDTO getTripSnapshot(Long totalPlanId, User currentUser) {
+    planMembershipAuthorizer.validateMember(totalPlanId, currentUser);
+
+    TotalPlan totalPlan = totalPlanRepository.findById(totalPlanId)
+        .orElseThrow(() -> new CustomException(ErrorCode.TOTAL_PLAN_NOT_FOUND));
+
+    if (totalPlan.getIsDeleted()) {
+      throw new CustomException(ErrorCode.TOTAL_PLAN_ALREADY_DELETED);
+    }
+
+    List<TripDaySnapshotDTO> days = dailyPlanRepository.findSnapshotsByTotalPlanId(totalPlanId);
+
+    Map<Long, TripDaySnapshotDTO> dayById = new HashMap<>();
+    for (TripDaySnapshotDTO day : days) {
+      dayById.put(day.getDailyPlanId(), day);
+    }
+    List<TripSubPlanSnapshotDTO> subPlans = findInChunks(
+        new ArrayList<>(dayById.keySet()), subPlanRepository::findSnapshotsByDailyPlanIds);
+
+    Map<Long, TripSubPlanSnapshotDTO> subPlanById = new HashMap<>();
+    for (TripSubPlanSnapshotDTO subPlan : subPlans) {
+      subPlanById.put(subPlan.getSubPlanId(), subPlan);
+      dayById.get(subPlan.getDailyPlanId()).getSubPlans().add(subPlan);
+    }
+    List<Budget> budgets = findInChunks(
+        new ArrayList<>(subPlanById.keySet()), budgetRepository::findBySubPlanIds);
+
+    for (Budget budget : budgets) {
+      // 프록시의 id 조회는 SubPlan 을 초기화하지 않음
+      Long subPlanId = budget.getSubPlan().getSubPlanId();
+      subPlanById.get(subPlanId).getBudgets().add(mapToBudgetDto(budget, subPlanId));
+    }
+
+    log.info("여행 스냅샷 조회: totalPlanId: {}, 일차 수: {}, 세부 일정 수: {}, 예산 수: {}",
+        totalPlanId, days.size(), subPlans.size(), budgets.size());
+
+    return TripSnapshotResponseDTO.builder()
+        .totalPlanId(totalPlan.getTotalPlanId())
+        .title(totalPlan.getTitle())
+        .startDate(totalPlan.getStartDate())
+        .endDate(totalPlan.getEndDate())
+        .totalBudget(totalPlan.getTotalBudget())
+        .totalPlanDescription(totalPlan.getTotalPlanDescription())
+        .travelDuration(totalPlan.getTravelDuration())
+        .dailyPlans(days)
+        .build();
+  }
+
+  // id 목록을 IN 절 크기 단위로 나눠 조회 (비어 있으면 쿼리를 실행하지 않음)
+  private <T> List<T> findInChunks(List<Long> ids, Function<List<Long>, List<T>> query) {
+    List<T> results = new ArrayList<>();
+    for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+      results.addAll(query.apply(ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()))));
+    }
+    return results;
+  }
+
+  private BudgetResponseDTO mapToBudgetDto(Budget budget, Long subPlanId) {
+    return BudgetResponseDTO.builder()
+        .budgetId(budget.getBudgetId())
+        .budgetCategory(budget.getBudgetCategory())
+        .budgetName(budget.getBudgetName())
+        .budgetAmount(budget.getBudgetAmount())
+        .budgetType(budget.getBudgetType())
+        .subPlanId(subPlanId)
+        .build();
+  }
+}
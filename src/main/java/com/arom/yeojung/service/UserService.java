@@ -1,10 +1,13 @@
 package com.arom.yeojung.service;
 
+import com.arom.yeojung.object.File;
 import com.arom.yeojung.object.User;
 import com.arom.yeojung.object.dto.user.CustomUserDetails;
 import com.arom.yeojung.object.dto.user.ProfileImageRequest;
 import com.arom.yeojung.object.dto.user.UserDto;
 import com.arom.yeojung.repository.UserRepository;
+import com.arom.yeojung.security.cache.PrincipalCache;
+import com.arom.yeojung.security.cache.UserVersionRegistry;
 import com.arom.yeojung.util.exception.CustomException;
 import com.arom.yeojung.util.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -22,7 +25,10 @@ import org.springframework.web.multipart.MultipartFile;
 public class UserService {
 
   private final FileS3UploadService s3Uploader;
+  private final ImageVariantService imageVariantService;
   private final UserRepository userRepository;
+  private final PrincipalCache principalCache;
+  private final UserVersionRegistry userVersionRegistry;
   private static final long MAX_FILE_SIZE = 20 * 1024 * 1024; // 20MB 제한
 
   // Id로 회원 정보 조회
@@ -44,14 +50,18 @@ public class UserService {
 
   // 닉네임 변경
   @Transactional
-  public void updateNickname(String nickname, User user) {
+  public void updateNickname(String nickname, User principal) {
     // 닉네임 중복 체크
     if (userRepository.existsByNickname(nickname)) {
       throw new CustomException(ErrorCode.DUPLICATED_NICKNAME);
     }
 
+    User user = findPersistedUser(principal);
     user.setNickname(nickname);
+    user.increaseTokenVersion();
     userRepository.save(user);
+    principalCache.evict(user.getUsername());
+    userVersionRegistry.markUpdated(user.getUserId(), user.getTokenVersion());
     updateSecurityContext(user);
     log.info("닉네임을 변경하였습니다. nickname: {}", user.getNickname());
   }
@@ -65,7 +75,8 @@ public class UserService {
 
   // 프로필 사진 업로드 (등록 & 변경)
   @Transactional
-  public void updateProfileImage(ProfileImageRequest request, User user) {
+  public void updateProfileImage(ProfileImageRequest request, User principal) {
+    User user = findPersistedUser(principal);
     MultipartFile profileImage = request.getProfileImage();
 
     // 파일 크기 제한 검사
@@ -74,24 +85,37 @@ public class UserService {
       throw new CustomException(ErrorCode.FILE_SIZE_EXCEED);
     }
 
-    // 기존 프로필 이미지 삭제 (S3에 존재하는지 확인 후 삭제)
+    // 기존 프로필 이미지는 참조가 사라지므로 고아 파일 정리에서 S3 와 함께 삭제됨
     String currentProfileImageUrl = user.getProfileImageUrl();
-    if (currentProfileImageUrl != null) {
-      s3Uploader.deleteFile(currentProfileImageUrl);
-      log.info("기존 프로필 사진을 삭제하였습니다. profileImageUrl: {}", currentProfileImageUrl);
-    }
 
-    // 새 프로필 사진 업로드
-    String imageUrl = s3Uploader.uploadAndSaveFile(profileImage).getFileUrl();
+    // 새 프로필 사진 업로드 (비동기 업로드 모드면 전송 완료를 기다리지 않음, URL 은 업로드 전에 정해짐)
+    File uploadedFile = s3Uploader.isAsyncUpload()
+        ? s3Uploader.uploadAndSaveFileAsync(profileImage)
+        : s3Uploader.uploadAndSaveFile(profileImage);
+    imageVariantService.generate(uploadedFile, profileImage);
+    String imageUrl = uploadedFile.getFileUrl();
 
     // DB에 업데이트 (등록 or 변경)
     user.setProfileImageUrl(imageUrl);
+    user.increaseTokenVersion();
     userRepository.save(user);
+    principalCache.evict(user.getUsername());
+    userVersionRegistry.markUpdated(user.getUserId(), user.getTokenVersion());
 
     // SecurityContext 업데이트
     updateSecurityContext(user);
 
-    log.info("프로필 사진을 업로드하였습니다. profileImageUrl: {}", user.getProfileImageUrl());
+    log.info("프로필 사진을 업로드하였습니다. profileImageUrl: {}, 이전 profileImageUrl: {}",
+        user.getProfileImageUrl(), currentProfileImageUrl);
+  }
+
+  // 인증 주체는 토큰 클레임으로 복원된 일부 정보만 가질 수 있으므로 DB 의 사용자를 다시 조회
+  private User findPersistedUser(User principal) {
+    return userRepository.findByUserId(principal.getUserId())
+        .orElseThrow(() -> {
+          log.error("회원 조회 실패: userId: {}", principal.getUserId());
+          return new CustomException(ErrorCode.USER_NOT_FOUND);
+        });
   }
 
   // CustomUserDetails 업데이트
@@ -0,0 +1,85 @@
+package com.arom.yeojung.util.config;
+
+import java.net.URI;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+// S3 클라이언트 설정 (업로드 서비스와 멀티파트 업로더가 같은 클라이언트와 커넥션 풀을 공유)
+// file.s3.endpoint 를 지정하면 로컬 S3 호환 서버를 path-style 로 사용 (테스트/개발용)
+@Configuration
+public class S3Config {
+
+  private final URI endpoint;
+
+  public S3Config(@Value("${file.s3.endpoint:}") String endpoint) {
+    this.endpoint = StringUtils.hasText(endpoint) ? URI.create(endpoint) : null;
+  }
+
+  @Bean(destroyMethod = "close")
+  public S3Client s3Client() {
+    var builder = S3Client.builder()
+        .region(Region.AP_NORTHEAST_2) //서울 지역
+        .credentialsProvider(credentialsProvider());
+    if (endpoint != null) {
+      builder.endpointOverride(endpoint).forcePathStyle(true);
+    }
+    return builder.build();
+  }
+
+  // 비동기 업로드용 클라이언트 (Netty 커넥션 풀, 전송 중에 요청 스레드를 붙잡지 않음)
+  @Bean(destroyMethod = "close")
+  public S3AsyncClient s3AsyncClient(
+      @Value("${file.s3-async.max-concurrency:64}") int maxConcurrency,
+      @Value("${file.s3-async.max-pending-acquires:1000}") int maxPendingAcquires,
+      @Value("${file.s3-async.acquire-timeout:10s}") Duration acquireTimeout) {
+    var builder = S3AsyncClient.builder()
+        .region(Region.AP_NORTHEAST_2)
+        .credentialsProvider(credentialsProvider())
+        .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+            .maxConcurrency(maxConcurrency)
+            .maxPendingConnectionAcquires(maxPendingAcquires)
+            .connectionAcquisitionTimeout(acquireTimeout)
+            .connectionMaxIdleTime(Duration.ofSeconds(60)));
+    if (endpoint != null) {
+      builder.endpointOverride(endpoint).forcePathStyle(true);
+    }
+    return builder.build();
+  }
+
+  // 클라이언트가 S3 에 직접 업로드할 presigned URL 생성용
+  @Bean(destroyMethod = "close")
+  public S3Presigner s3Presigner() {
+    var builder = S3Presigner.builder()
+        .region(Region.AP_NORTHEAST_2)
+        .credentialsProvider(credentialsProvider());
+    if (endpoint != null) {
+      builder.endpointOverride(endpoint)
+          .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+    }
+    return builder.build();
+  }
+
+  // AWS_ACCESS_KEY, AWS_SECRET_KEY 가 없으면 기본 자격 증명 체인 사용
+  // (체인은 첫 요청 때 조회되므로 자격 증명이 없는 테스트 환경에서도 컨텍스트가 뜸)
+  private AwsCredentialsProvider credentialsProvider() {
+    String accessKey = System.getenv("AWS_ACCESS_KEY");
+    String secretKey = System.getenv("AWS_SECRET_KEY");
+    if (!StringUtils.hasText(accessKey) || !StringUtils.hasText(secretKey)) {
+      return DefaultCredentialsProvider.create();
+    }
+    return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+  }
+}
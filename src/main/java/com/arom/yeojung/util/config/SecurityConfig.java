@@ -1,13 +1,17 @@
 package com.arom.yeojung.util.config;
 
+import com.arom.yeojung.security.cache.UserVersionRegistry;
 import com.arom.yeojung.security.filter.JWTFilter;
 import com.arom.yeojung.security.filter.LoginFilter;
 import com.arom.yeojung.security.jwt.JWTUtil;
+import com.arom.yeojung.security.password.BoundedPasswordEncoder;
 import com.arom.yeojung.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Collections;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -16,7 +20,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -38,13 +41,19 @@ public class SecurityConfig {
     }
 
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.pool-size:4}") int poolSize,
+            @Value("${security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.rehash-on-login:false}") boolean rehashOnLogin,
+            MeterRegistry meterRegistry) {
+
+        return new BoundedPasswordEncoder(strength, poolSize, queueCapacity, rehashOnLogin, meterRegistry);
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, CustomUserDetailsService customUserDetailsService) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, CustomUserDetailsService customUserDetailsService,
+                                                   UserVersionRegistry userVersionRegistry) throws Exception {
 
         http
                 .cors((cors)->cors
@@ -94,7 +103,7 @@ public class SecurityConfig {
 
 
         http
-                .addFilterAt(new JWTFilter(jwtUtil, customUserDetailsService), LoginFilter.class);
+                .addFilterAt(new JWTFilter(jwtUtil, customUserDetailsService, userVersionRegistry), LoginFilter.class);
 
         http
                 .addFilterAt(new LoginFilter(authenticationManager(authenticationConfiguration), jwtUtil),
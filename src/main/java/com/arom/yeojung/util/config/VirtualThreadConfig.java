@@ -0,0 +1,30 @@
+package com.arom.yeojung.util.config;
+
+import com.arom.yeojung.util.thread.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+// 요청 처리 스레드 모드 설정
+// spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리, @Async, 스케줄러가 모두 가상 스레드에서 실행된다.
+// S3 동기 클라이언트와 JPA 호출은 요청 스레드에서 실행되므로 함께 가상 스레드로 동작한다.
+@Configuration
+@EnableAsync
+public class VirtualThreadConfig {
+
+  // 가상 스레드 모드일 때만 pinning 감지 활성화
+  @Bean(destroyMethod = "close")
+  @ConditionalOnThreading(Threading.VIRTUAL)
+  @ConditionalOnProperty(name = "app.virtual-threads.pinning-diagnostics", havingValue = "true", matchIfMissing = true)
+  public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+      @Value("${app.virtual-threads.pinning-threshold:20ms}") Duration threshold,
+      MeterRegistry meterRegistry) {
+    return new VirtualThreadPinningMonitor(threshold, meterRegistry);
+  }
+}
@@ -16,6 +16,8 @@ public enum ErrorCode {
 
   ACCESS_DENIED(HttpStatus.FORBIDDEN, "접근이 거부되었습니다."),
 
+  TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
   // User
 
 
@@ -81,6 +83,8 @@ public enum ErrorCode {
   FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 File을 찾을 수 없습니다."),
   FILE_SIZE_EXCEED(HttpStatus.PAYLOAD_TOO_LARGE, "업로드 가능한 파일 크기를 초과했습니다."),
   FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "파일 업로드에 실패했습니다."),
+  FILE_NOT_UPLOADED(HttpStatus.CONFLICT, "아직 업로드되지 않은 파일입니다."),
+  FILE_UPLOAD_MISMATCH(HttpStatus.CONFLICT, "예약한 파일과 업로드된 파일의 크기나 형식이 다릅니다."),
   INVALID_FILE_TYPE(HttpStatus.BAD_REQUEST, "지원하지 않는 파일 형식입니다.");
 
 
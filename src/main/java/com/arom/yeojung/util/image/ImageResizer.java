@@ -0,0 +1,127 @@
+package com.arom.yeojung.util.image;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+// 이미지 디코딩/축소/JPEG 인코딩
+// 원본은 한 번만 디코딩하고, 큰 크기부터 작은 크기 순으로 이전 결과를 다시 축소하여 변형 이미지를 만든다.
+public final class ImageResizer {
+
+  private ImageResizer() {
+  }
+
+  // 이미지 디코딩 (픽셀 수가 maxPixels 를 넘거나 지원하지 않는 형식이면 null)
+  public static BufferedImage decode(byte[] bytes, long maxPixels) throws IOException {
+    try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+      if (input == null) {
+        return null;
+      }
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+      if (!readers.hasNext()) {
+        return null;
+      }
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(input, true, true);
+        // 디코딩 전에 크기만 읽어 지나치게 큰 이미지는 건너뜀
+        if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+          return null;
+        }
+        return reader.read(0);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  // 헤더만 읽은 픽셀 수 (지원하지 않는 형식이면 -1), 원본 전체를 읽기 전에 크기를 확인할 때 사용
+  public static long pixelCount(InputStream source) throws IOException {
+    try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+      if (input == null) {
+        return -1;
+      }
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+      if (!readers.hasNext()) {
+        return -1;
+      }
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(input, true, true);
+        return (long) reader.getWidth(0) * reader.getHeight(0);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  // 긴 변이 maxEdge 이하가 되도록 비율을 유지하며 축소 (이미 작으면 그대로 반환)
+  public static BufferedImage scaleDown(BufferedImage source, int maxEdge) {
+    int width = source.getWidth();
+    int height = source.getHeight();
+    if (Math.max(width, height) <= maxEdge) {
+      return source;
+    }
+    double ratio = (double) maxEdge / Math.max(width, height);
+    int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+    int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+    // 한 번에 크게 줄이면 화질이 떨어지므로 절반씩 줄인 뒤 마지막에 목표 크기로 맞춤
+    BufferedImage current = source;
+    while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+      current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+    }
+    return draw(current, targetWidth, targetHeight);
+  }
+
+  public static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+      writer.setOutput(imageOutput);
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(quality);
+      writer.write(null, new IIOImage(toRgb(image), null, null), param);
+    } finally {
+      writer.dispose();
+    }
+    return output.toByteArray();
+  }
+
+  private static BufferedImage draw(BufferedImage source, int width, int height) {
+    BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = target.createGraphics();
+    try {
+      graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      // 투명 배경은 흰색으로 (JPEG 는 알파 채널이 없음)
+      graphics.setColor(Color.WHITE);
+      graphics.fillRect(0, 0, width, height);
+      graphics.drawImage(source, 0, 0, width, height, null);
+    } finally {
+      graphics.dispose();
+    }
+    return target;
+  }
+
+  private static BufferedImage toRgb(BufferedImage image) {
+    if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+      return image;
+    }
+    return draw(image, image.getWidth(), image.getHeight());
+  }
+}
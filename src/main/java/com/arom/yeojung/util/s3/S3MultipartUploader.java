@@ -0,0 +1,282 @@
+package com.arom.yeojung.util.s3;
+
+import com.arom.yeojung.util.exception.CustomException;
+import com.arom.yeojung.util.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+// 입력 스트림을 파트 크기만큼 읽는 대로 S3 멀티파트 업로드로 병렬 전송하는 업로더
+// 파트 버퍼는 전체 개수가 제한된 풀에서 빌려 쓰므로, 동시 업로드가 많아도 힙 사용량은 part-size * buffer-count 를 넘지 않는다.
+// 업로드 하나가 동시에 전송하는 파트 수도 제한하여 한 업로드가 버퍼를 독점하지 않도록 한다.
+@Component
+@Slf4j
+public class S3MultipartUploader implements DisposableBean {
+
+  // S3 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외)
+  private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+  private final S3Client s3Client;
+  private final int partSize;
+  private final int bufferCount;
+  private final int partsInFlightPerUpload;
+  private final long maxObjectSize;
+  private final long bufferWaitMillis;
+
+  private final Semaphore bufferPermits;
+  private final Queue<byte[]> freeBuffers = new ConcurrentLinkedQueue<>();
+  private final ExecutorService partExecutor;
+
+  private final Timer singleUploadTimer;
+  private final Timer multipartUploadTimer;
+  private final Counter uploadedBytes;
+
+  public S3MultipartUploader(S3Client s3Client,
+      @Value("${file.multipart.part-size:8MB}") DataSize partSize,
+      @Value("${file.multipart.buffer-count:32}") int bufferCount,
+      @Value("${file.multipart.parts-in-flight-per-upload:4}") int partsInFlightPerUpload,
+      @Value("${file.multipart.upload-threads:8}") int uploadThreads,
+      @Value("${file.multipart.max-object-size:2GB}") DataSize maxObjectSize,
+      @Value("${file.multipart.buffer-wait:30s}") Duration bufferWait,
+      MeterRegistry meterRegistry) {
+    if (partSize.toBytes() < MIN_PART_SIZE || partSize.toBytes() > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("file.multipart.part-size 는 5MB 이상이어야 합니다: " + partSize);
+    }
+    this.s3Client = s3Client;
+    this.partSize = (int) partSize.toBytes();
+    this.bufferCount = bufferCount;
+    this.partsInFlightPerUpload = partsInFlightPerUpload;
+    this.maxObjectSize = maxObjectSize.toBytes();
+    this.bufferWaitMillis = bufferWait.toMillis();
+    this.bufferPermits = new Semaphore(bufferCount);
+    this.partExecutor = Executors.newFixedThreadPool(uploadThreads,
+        new CustomizableThreadFactory("s3-part-upload-"));
+
+    this.singleUploadTimer = Timer.builder("file.upload")
+        .tag("mode", "single")
+        .register(meterRegistry);
+    this.multipartUploadTimer = Timer.builder("file.upload")
+        .tag("mode", "multipart")
+        .register(meterRegistry);
+    this.uploadedBytes = Counter.builder("file.upload.bytes")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    Gauge.builder("file.upload.buffers.in-use", bufferPermits, p -> bufferCount - p.availablePermits())
+        .register(meterRegistry);
+  }
+
+  // 스트림을 끝까지 읽어 S3 에 저장하고 저장한 바이트 수 반환 (한 파트 이하면 단일 PUT)
+  public long upload(String bucket, String key, String contentType, InputStream inputStream) {
+    long startNanos = System.nanoTime();
+
+    byte[] firstBuffer = acquireBuffer();
+    int firstLength;
+    try {
+      firstLength = readFully(inputStream, firstBuffer);
+    } catch (IOException e) {
+      releaseBuffer(firstBuffer);
+      throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+    }
+
+    if (firstLength < partSize) {
+      try {
+        s3Client.putObject(PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build(),
+            RequestBody.fromInputStream(new ByteArrayInputStream(firstBuffer, 0, firstLength), firstLength));
+      } finally {
+        releaseBuffer(firstBuffer);
+      }
+      record(singleUploadTimer, key, firstLength, startNanos);
+      return firstLength;
+    }
+
+    String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .contentType(contentType)
+            .build())
+        .uploadId();
+
+    Semaphore inFlight = new Semaphore(partsInFlightPerUpload);
+    List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+    byte[] pending = firstBuffer;
+    int pendingLength = firstLength;
+    long totalBytes = 0;
+
+    try {
+      int partNumber = 1;
+      while (true) {
+        totalBytes += pendingLength;
+        if (totalBytes > maxObjectSize) {
+          throw new CustomException(ErrorCode.FILE_SIZE_EXCEED);
+        }
+        acquire(inFlight);
+        parts.add(uploadPart(bucket, key, uploadId, partNumber++, pending, pendingLength, inFlight));
+        pending = null;
+
+        // 마지막 파트
+        if (pendingLength < partSize) {
+          break;
+        }
+        pending = acquireBuffer();
+        pendingLength = readFully(inputStream, pending);
+        if (pendingLength == 0) {
+          break;
+        }
+      }
+
+      List<CompletedPart> completedParts = parts.stream()
+          .map(CompletableFuture::join)
+          .toList();
+      s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+          .bucket(bucket)
+          .key(key)
+          .uploadId(uploadId)
+          .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+          .build());
+    } catch (CustomException e) {
+      abort(bucket, key, uploadId, parts);
+      throw e;
+    } catch (IOException | RuntimeException e) {
+      log.error("멀티파트 업로드 실패: key: {}", key, e instanceof CompletionException ? e.getCause() : e);
+      abort(bucket, key, uploadId, parts);
+      throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+    } finally {
+      if (pending != null) {
+        releaseBuffer(pending);
+      }
+    }
+
+    record(multipartUploadTimer, key, totalBytes, startNanos);
+    return totalBytes;
+  }
+
+  private CompletableFuture<CompletedPart> uploadPart(String bucket, String key, String uploadId,
+      int partNumber, byte[] buffer, int length, Semaphore inFlight) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .partNumber(partNumber)
+                    .contentLength((long) length)
+                    .build(),
+                RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length))
+            .eTag();
+        return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+      } finally {
+        releaseBuffer(buffer);
+        inFlight.release();
+      }
+    }, partExecutor);
+  }
+
+  // 전송 중인 파트가 끝나기를 기다린 뒤 업로드 취소 (취소 뒤에 파트가 올라가 남지 않도록)
+  private void abort(String bucket, String key, String uploadId, List<CompletableFuture<CompletedPart>> parts) {
+    for (CompletableFuture<CompletedPart> part : parts) {
+      try {
+        part.join();
+      } catch (RuntimeException ignored) {
+        // 실패한 파트도 취소 대상
+      }
+    }
+    try {
+      s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+          .bucket(bucket)
+          .key(key)
+          .uploadId(uploadId)
+          .build());
+    } catch (RuntimeException e) {
+      log.warn("멀티파트 업로드 취소 실패: key: {}, uploadId: {}", key, uploadId, e);
+    }
+  }
+
+  private int readFully(InputStream inputStream, byte[] buffer) throws IOException {
+    int offset = 0;
+    while (offset < buffer.length) {
+      int read = inputStream.read(buffer, offset, buffer.length - offset);
+      if (read < 0) {
+        break;
+      }
+      offset += read;
+    }
+    return offset;
+  }
+
+  // 풀에서 파트 버퍼를 빌림 (모두 사용 중이면 buffer-wait 만큼 기다린 뒤 429)
+  private byte[] acquireBuffer() {
+    try {
+      if (!bufferPermits.tryAcquire(bufferWaitMillis, TimeUnit.MILLISECONDS)) {
+        log.warn("업로드 버퍼 부족: bufferCount: {}", bufferCount);
+        throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+    }
+    byte[] buffer = freeBuffers.poll();
+    return buffer != null ? buffer : new byte[partSize];
+  }
+
+  private void releaseBuffer(byte[] buffer) {
+    freeBuffers.offer(buffer);
+    bufferPermits.release();
+  }
+
+  private void acquire(Semaphore semaphore) {
+    try {
+      semaphore.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+    }
+  }
+
+  private void record(Timer timer, String key, long bytes, long startNanos) {
+    long elapsedNanos = System.nanoTime() - startNanos;
+    timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    uploadedBytes.increment(bytes);
+    double seconds = Math.max(elapsedNanos / 1_000_000_000.0, 0.001);
+    log.info("업로드 완료: key: {}, size: {}bytes, {}MB/s", key, bytes,
+        String.format("%.1f", bytes / 1024.0 / 1024.0 / seconds));
+  }
+
+  @Override
+  public void destroy() {
+    partExecutor.shutdown();
+  }
+}
@@ -0,0 +1,64 @@
+package com.arom.yeojung.util.thread;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+// 가상 스레드가 캐리어 스레드에 고정(pinning)되는 구간을 JFR 이벤트로 감지
+// synchronized 블록이나 JDBC 드라이버 내부에서 블로킹되는 경우를 찾기 위한 진단용
+@Slf4j
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final String APP_PACKAGE = "com.arom.yeojung";
+
+  private final RecordingStream recordingStream;
+  private final Counter pinnedCounter;
+  private final Timer pinnedTimer;
+
+  public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+    this.pinnedCounter = Counter.builder("jvm.virtual-threads.pinned")
+        .register(meterRegistry);
+    this.pinnedTimer = Timer.builder("jvm.virtual-threads.pinned.duration")
+        .register(meterRegistry);
+
+    this.recordingStream = new RecordingStream();
+    recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+    recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+    recordingStream.startAsync();
+    log.info("가상 스레드 pinning 감지 시작: threshold: {}ms", threshold.toMillis());
+  }
+
+  private void onPinned(RecordedEvent event) {
+    pinnedCounter.increment();
+    pinnedTimer.record(event.getDuration());
+    log.warn("가상 스레드 pinning 감지: duration: {}ms, at: {}",
+        event.getDuration().toMillis(), describe(event.getStackTrace()));
+  }
+
+  // 애플리케이션 코드의 첫 프레임을 우선으로, 없으면 최상단 프레임을 표시
+  private String describe(RecordedStackTrace stackTrace) {
+    if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+      return "unknown";
+    }
+    RecordedFrame top = stackTrace.getFrames().getFirst();
+    RecordedFrame appFrame = stackTrace.getFrames().stream()
+        .filter(frame -> frame.getMethod().getType().getName().startsWith(APP_PACKAGE))
+        .findFirst()
+        .orElse(top);
+    return appFrame.getMethod().getType().getName() + "." + appFrame.getMethod().getName()
+        + ":" + appFrame.getLineNumber() + " (top: " + top.getMethod().getType().getName()
+        + "." + top.getMethod().getName() + ")";
+  }
+
+  @Override
+  public void close() {
+    recordingStream.close();
+  }
+}
@@ -0,0 +1,116 @@
+package com.arom.yeojung.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.arom.yeojung.object.ContentType;
+import com.arom.yeojung.object.Diary;
+import com.arom.yeojung.object.DiaryContent;
+import com.arom.yeojung.object.DiaryStatus;
+import com.arom.yeojung.object.File;
+import com.arom.yeojung.object.User;
+import com.arom.yeojung.object.dto.DiaryContentDto;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class DiaryContentRepositoryTest {
+
+  private static final int CONTENT_COUNT = 120;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private DiaryContentRepository diaryContentRepository;
+
+  @Test
+  void findContentDtosByDiaryId_usesSingleStatement() {
+    User user = User.builder().username("writer").password("password").build();
+    entityManager.persist(user);
+
+    Diary diary = new Diary();
+    diary.setUser(user);
+    diary.setTitle("diary");
+    diary.setStatus(DiaryStatus.PUBLIC);
+    entityManager.persist(diary);
+
+    // 텍스트와 이미지 컨텐츠를 역순으로 저장
+    for (int i = CONTENT_COUNT; i >= 1; i--) {
+      DiaryContent content = new DiaryContent();
+      content.setDiary(diary);
+      content.setSequence((long) i);
+      if (i % 2 == 0) {
+        File file = new File();
+        file.setFileName("file-" + i);
+        file.setFileUrl("https://example.com/file-" + i);
+        content.setContentType(ContentType.IMAGE);
+        content.setFile(file);
+      } else {
+        content.setContentType(ContentType.TEXT);
+        content.setContent("text-" + i);
+      }
+      entityManager.persist(content);
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    Statistics statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    List<DiaryContentDto> contents = diaryContentRepository.findContentDtosByDiaryId(diary.getDiaryId());
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    assertThat(contents).hasSize(CONTENT_COUNT);
+    assertThat(contents).extracting(DiaryContentDto::getSequence).isSorted();
+    assertThat(contents.get(1).getFileUrl()).isEqualTo("https://example.com/file-2");
+    assertThat(contents.get(0).getContent()).isEqualTo("text-1");
+  }
+
+  @Test
+  void contentsAndThumbnailsCanShareOneFile() {
+    User user = User.builder().username("sharer").password("password").build();
+    entityManager.persist(user);
+
+    File shared = new File();
+    shared.setFileName("shared");
+    shared.setFileUrl("https://example.com/shared");
+    shared.setContentHash("hash-shared");
+    entityManager.persist(shared);
+
+    // 같은 내용의 업로드가 재사용한 파일을 두 다이어리의 썸네일과 두 컨텐츠가 함께 참조
+    for (int i = 1; i <= 2; i++) {
+      Diary diary = new Diary();
+      diary.setUser(user);
+      diary.setTitle("diary-" + i);
+      diary.setStatus(DiaryStatus.PUBLIC);
+      diary.setThumbnailFile(shared);
+      entityManager.persist(diary);
+
+      DiaryContent content = new DiaryContent();
+      content.setDiary(diary);
+      content.setSequence(1L);
+      content.setContentType(ContentType.IMAGE);
+      content.setFile(shared);
+      entityManager.persist(content);
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    Long sharingContents = entityManager.createQuery(
+            "select count(c) from DiaryContent c where c.file.fileId = :fileId", Long.class)
+        .setParameter("fileId", shared.getFileId())
+        .getSingleResult();
+    Long sharingDiaries = entityManager.createQuery(
+            "select count(d) from Diary d where d.thumbnailFile.fileId = :fileId", Long.class)
+        .setParameter("fileId", shared.getFileId())
+        .getSingleResult();
+    assertThat(sharingContents).isEqualTo(2);
+    assertThat(sharingDiaries).isEqualTo(2);
+  }
+}
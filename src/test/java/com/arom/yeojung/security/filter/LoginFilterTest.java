@@ -0,0 +1,78 @@
+package com.arom.yeojung.security.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.arom.yeojung.object.User;
+import com.arom.yeojung.object.dto.user.CustomUserDetails;
+import com.arom.yeojung.security.jwt.JWTUtil;
+import com.arom.yeojung.util.exception.CustomException;
+import com.arom.yeojung.util.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class LoginFilterTest {
+
+  private static final String USERNAME = "traveler";
+  private static final String PASSWORD = "password";
+
+  private final BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+
+  // 없는 사용자는 CustomUserDetailsService 와 같이 CustomException(USER_NOT_FOUND)
+  private final UserDetailsService userDetailsService = username -> {
+    if (!USERNAME.equals(username)) {
+      throw new CustomException(ErrorCode.USER_NOT_FOUND);
+    }
+    return new CustomUserDetails(User.builder().username(USERNAME).password(bcrypt.encode(PASSWORD)).build());
+  };
+
+  @Test
+  void unknownUsernameAndWrongPasswordGetSameStatus() throws Exception {
+    MockHttpServletResponse unknownUser = login(bcrypt, "nobody", PASSWORD);
+    MockHttpServletResponse wrongPassword = login(bcrypt, USERNAME, "wrong");
+
+    assertThat(unknownUser.getStatus()).isEqualTo(401);
+    assertThat(wrongPassword.getStatus()).isEqualTo(401);
+    assertThat(unknownUser.getHeader("Authorization")).isNull();
+  }
+
+  @Test
+  void saturatedHashingPoolReturnsTooManyRequests() throws Exception {
+    PasswordEncoder saturated = new PasswordEncoder() {
+      @Override
+      public String encode(CharSequence rawPassword) {
+        throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+      }
+
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+      }
+    };
+
+    assertThat(login(saturated, USERNAME, PASSWORD).getStatus()).isEqualTo(429);
+  }
+
+  private MockHttpServletResponse login(PasswordEncoder passwordEncoder, String username, String password)
+      throws Exception {
+    DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+    provider.setUserDetailsService(userDetailsService);
+    provider.setPasswordEncoder(passwordEncoder);
+    LoginFilter loginFilter = new LoginFilter(new ProviderManager(provider), mock(JWTUtil.class));
+
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/login");
+    request.setServletPath("/login");
+    request.addParameter("username", username);
+    request.addParameter("password", password);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    loginFilter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+}
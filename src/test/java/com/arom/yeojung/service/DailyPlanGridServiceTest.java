@@ -0,0 +1,134 @@
+package com.arom.yeojung.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.arom.yeojung.object.TotalPlan;
+import com.arom.yeojung.service.DailyPlanGridService.Day;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@Import(DailyPlanGridService.class)
+class DailyPlanGridServiceTest {
+
+  private static final LocalDate START = LocalDate.of(2025, 7, 1);
+  private static final LocalDate END = LocalDate.of(2025, 7, 3);
+  private static final Timestamp OLD_UPDATED_DATE = Timestamp.valueOf("2000-01-01 00:00:00");
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private DailyPlanGridService dailyPlanGridService;
+
+  private TotalPlan totalPlan;
+
+  @BeforeEach
+  void setUp() {
+    totalPlan = new TotalPlan();
+    totalPlan.setTitle("trip");
+    totalPlan.setStartDate(START);
+    totalPlan.setEndDate(END);
+    entityManager.persist(totalPlan);
+    entityManager.flush();
+
+    dailyPlanGridService.createDays(totalPlan);
+  }
+
+  @Test
+  void regenerateDays_sameLengthMovesExistingDays() {
+    List<Day> before = activeDays();
+
+    regenerate(START.plusDays(4), END.plusDays(4));
+
+    List<Day> after = activeDays();
+    // 같은 행을 유지한 채 날짜만 이동
+    assertThat(after).extracting(Day::dailyPlanId)
+        .containsExactlyElementsOf(before.stream().map(Day::dailyPlanId).toList());
+    assertThat(after).extracting(Day::tripDayNumber, Day::date).containsExactly(
+        tuple(0, LocalDate.of(2025, 7, 5)),
+        tuple(1, LocalDate.of(2025, 7, 5)),
+        tuple(2, LocalDate.of(2025, 7, 6)),
+        tuple(3, LocalDate.of(2025, 7, 7)));
+    assertThat(deletedDayCount()).isZero();
+  }
+
+  @Test
+  void regenerateDays_extendKeepsDaysAndAddsMissingDates() {
+    List<Day> before = activeDays();
+
+    regenerate(START, END.plusDays(2));
+
+    List<Day> after = activeDays();
+    assertThat(after.subList(0, before.size())).extracting(Day::dailyPlanId)
+        .containsExactlyElementsOf(before.stream().map(Day::dailyPlanId).toList());
+    assertThat(after).extracting(Day::tripDayNumber, Day::date).containsExactly(
+        tuple(0, LocalDate.of(2025, 7, 1)),
+        tuple(1, LocalDate.of(2025, 7, 1)),
+        tuple(2, LocalDate.of(2025, 7, 2)),
+        tuple(3, LocalDate.of(2025, 7, 3)),
+        tuple(4, LocalDate.of(2025, 7, 4)),
+        tuple(5, LocalDate.of(2025, 7, 5)));
+    assertThat(deletedDayCount()).isZero();
+  }
+
+  @Test
+  void regenerateDays_shrinkSoftDeletesDaysOutOfRangeAndRenumbers() {
+    regenerate(START.plusDays(1), END);
+
+    assertThat(activeDays()).extracting(Day::tripDayNumber, Day::date).containsExactly(
+        tuple(0, LocalDate.of(2025, 7, 2)),
+        tuple(1, LocalDate.of(2025, 7, 2)),
+        tuple(2, LocalDate.of(2025, 7, 3)));
+    assertThat(deletedDayCount()).isEqualTo(1);
+  }
+
+  @Test
+  void regenerateDays_sameRangeChangesNothing() {
+    jdbcTemplate.update("update daily_plan set updated_date = ? where total_plan_id = ?",
+        OLD_UPDATED_DATE, totalPlan.getTotalPlanId());
+    List<Day> before = activeDays();
+
+    regenerate(START, END);
+
+    assertThat(activeDays()).isEqualTo(before);
+    assertThat(jdbcTemplate.queryForObject(
+        "select count(*) from daily_plan where total_plan_id = ? and updated_date > ?", Long.class,
+        totalPlan.getTotalPlanId(), OLD_UPDATED_DATE)).isZero();
+  }
+
+  private void regenerate(LocalDate newStartDate, LocalDate newEndDate) {
+    LocalDate oldStartDate = totalPlan.getStartDate();
+    LocalDate oldEndDate = totalPlan.getEndDate();
+    totalPlan.setStartDate(newStartDate);
+    totalPlan.setEndDate(newEndDate);
+    entityManager.flush();
+    dailyPlanGridService.regenerateDays(totalPlan, oldStartDate, oldEndDate);
+  }
+
+  private List<Day> activeDays() {
+    return jdbcTemplate.query(
+        "select daily_plan_id, daily_plan_date, trip_day_number from daily_plan "
+            + "where total_plan_id = ? and is_deleted = false order by trip_day_number, daily_plan_id",
+        (rs, rowNum) -> new Day(rs.getLong(1), rs.getDate(2).toLocalDate(), rs.getInt(3)),
+        totalPlan.getTotalPlanId());
+  }
+
+  private long deletedDayCount() {
+    return jdbcTemplate.queryForObject(
+        "select count(*) from daily_plan where total_plan_id = ? and is_deleted = true", Long.class,
+        totalPlan.getTotalPlanId());
+  }
+}
@@ -0,0 +1,87 @@
+package com.arom.yeojung.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.arom.yeojung.object.ContentType;
+import com.arom.yeojung.object.Diary;
+import com.arom.yeojung.object.DiaryContent;
+import com.arom.yeojung.object.DiaryStatus;
+import com.arom.yeojung.object.User;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@Import({DiaryContentSequencer.class, DiaryContentRebalancer.class})
+class DiaryContentSequencerTest {
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private DiaryContentSequencer diaryContentSequencer;
+
+  private Diary diary;
+  private final List<Long> contentIds = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    User user = User.builder().username("writer").password("password").build();
+    entityManager.persist(user);
+
+    diary = new Diary();
+    diary.setUser(user);
+    diary.setTitle("diary");
+    diary.setStatus(DiaryStatus.PUBLIC);
+    entityManager.persist(diary);
+
+    // 순서 키가 도입되기 전에 저장된 컨텐츠처럼 sequence 가 null
+    for (int i = 0; i < 3; i++) {
+      DiaryContent content = new DiaryContent();
+      content.setDiary(diary);
+      content.setContentType(ContentType.TEXT);
+      content.setContent("text-" + i);
+      entityManager.persist(content);
+      contentIds.add(content.getDiaryContentId());
+    }
+    entityManager.flush();
+  }
+
+  @Test
+  void move_renumbersLegacyNullSequencesFirst() {
+    diaryContentSequencer.move(diary.getDiaryId(), contentIds.get(2), 1);
+
+    assertThat(orderedContentIds()).containsExactly(contentIds.get(2), contentIds.get(0), contentIds.get(1));
+    assertThat(nullSequenceCount()).isZero();
+  }
+
+  @Test
+  void keyForInsert_renumbersLegacyNullSequencesFirst() {
+    Long key = diaryContentSequencer.keyForInsert(diary.getDiaryId(), 2L);
+
+    // 첫 번째(GAP)와 두 번째(2*GAP) 컨텐츠 사이
+    assertThat(key).isBetween(DiaryContentRebalancer.GAP + 1, 2 * DiaryContentRebalancer.GAP - 1);
+    assertThat(nullSequenceCount()).isZero();
+  }
+
+  private List<Long> orderedContentIds() {
+    return jdbcTemplate.queryForList(
+        "select diary_content_id from diary_content where diary_id = ? order by sequence, diary_content_id",
+        Long.class, diary.getDiaryId());
+  }
+
+  private long nullSequenceCount() {
+    return jdbcTemplate.queryForObject(
+        "select count(*) from diary_content where diary_id = ? and sequence is null", Long.class,
+        diary.getDiaryId());
+  }
+}
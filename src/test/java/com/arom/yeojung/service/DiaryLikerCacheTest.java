@@ -0,0 +1,55 @@
+package com.arom.yeojung.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.arom.yeojung.repository.LikeRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class DiaryLikerCacheTest {
+
+  private static final Long DIARY_ID = 1L;
+  private static final Long OTHER_USER_ID = 4L;
+  private static final Long USER_ID = 5L;
+
+  private final LikeRepository likeRepository = mock(LikeRepository.class);
+  private final DiaryLikerCache diaryLikerCache = new DiaryLikerCache(likeRepository, 100, Duration.ofMinutes(10));
+
+  @Test
+  void update_appliesOneUserToCachedBitmapWithoutReloading() {
+    List<Object[]> rows = new ArrayList<>();
+    rows.add(new Object[]{DIARY_ID, OTHER_USER_ID});
+    when(likeRepository.findLikerIdsByDiaryIds(anyCollection())).thenReturn(rows);
+    assertThat(diaryLikerCache.findLikedDiaryIds(List.of(DIARY_ID), USER_ID)).isEmpty();
+
+    diaryLikerCache.update(DIARY_ID, USER_ID, true);
+    assertThat(diaryLikerCache.findLikedDiaryIds(List.of(DIARY_ID), USER_ID)).containsExactly(DIARY_ID);
+
+    diaryLikerCache.update(DIARY_ID, USER_ID, false);
+    assertThat(diaryLikerCache.findLikedDiaryIds(List.of(DIARY_ID), USER_ID)).isEmpty();
+    // 다른 사용자의 좋아요는 그대로
+    assertThat(diaryLikerCache.findLikedDiaryIds(List.of(DIARY_ID), OTHER_USER_ID)).containsExactly(DIARY_ID);
+
+    verify(likeRepository, times(1)).findLikerIdsByDiaryIds(anyCollection());
+  }
+
+  @Test
+  void update_skipsDiaryThatIsNotCached() {
+    diaryLikerCache.update(DIARY_ID, USER_ID, true);
+
+    List<Object[]> rows = new ArrayList<>();
+    rows.add(new Object[]{DIARY_ID, USER_ID});
+    when(likeRepository.findLikerIdsByDiaryIds(anyCollection())).thenReturn(rows);
+
+    // 캐시에 없던 다이어리는 조회할 때 db 에서 적재
+    assertThat(diaryLikerCache.findLikedDiaryIds(List.of(DIARY_ID), USER_ID)).containsExactly(DIARY_ID);
+    verify(likeRepository, times(1)).findLikerIdsByDiaryIds(anyCollection());
+  }
+}
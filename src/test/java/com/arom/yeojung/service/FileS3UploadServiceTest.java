@@ -0,0 +1,198 @@
+package com.arom.yeojung.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.arom.yeojung.object.File;
+import com.arom.yeojung.object.FileStatus;
+import com.arom.yeojung.object.User;
+import com.arom.yeojung.object.dto.PresignedUploadRequestDto;
+import com.arom.yeojung.object.dto.PresignedUploadResponseDto;
+import com.arom.yeojung.util.exception.CustomException;
+import com.arom.yeojung.util.exception.ErrorCode;
+import com.arom.yeojung.util.s3.S3MultipartUploader;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+class FileS3UploadServiceTest {
+
+  private static final long FILE_ID = 1L;
+  private static final long SIZE = 1024L;
+  private static final String CONTENT_TYPE = "image/png";
+
+  private final S3Client s3Client = mock(S3Client.class);
+  private final S3AsyncClient s3AsyncClient = mock(S3AsyncClient.class);
+  private final S3Presigner s3Presigner = mock(S3Presigner.class);
+  private final FileService fileService = mock(FileService.class);
+
+  private FileS3UploadService fileS3UploadService;
+  private User uploader;
+  private File reservedFile;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    fileS3UploadService = new FileS3UploadService(s3Client, s3AsyncClient,
+        mock(S3MultipartUploader.class), s3Presigner, fileService, Runnable::run,
+        false, Duration.ofMinutes(10), 1024L * 1024 * 1024);
+
+    uploader = User.builder().userId(10L).username("uploader").build();
+
+    when(fileService.saveReserved(anyString(), anyString(), eq(10L), eq(CONTENT_TYPE), eq(SIZE)))
+        .thenAnswer(invocation -> {
+          reservedFile = new File();
+          reservedFile.setFileId(FILE_ID);
+          reservedFile.setFileName(invocation.getArgument(0));
+          reservedFile.setFileUrl(invocation.getArgument(1));
+          reservedFile.setStatus(FileStatus.PENDING);
+          reservedFile.setUploaderId(invocation.getArgument(2));
+          reservedFile.setContentType(invocation.getArgument(3));
+          reservedFile.setExpectedSize(invocation.getArgument(4));
+          return reservedFile;
+        });
+    when(fileService.findById(FILE_ID)).thenAnswer(invocation -> Optional.ofNullable(reservedFile));
+
+    PresignedPutObjectRequest presigned = mock(PresignedPutObjectRequest.class);
+    when(presigned.url()).thenReturn(new URL("https://yeojung-bucket.s3.ap-northeast-2.amazonaws.com/upload"));
+    when(presigned.signedHeaders()).thenReturn(Map.of("content-type", List.of(CONTENT_TYPE)));
+    when(presigned.expiration()).thenReturn(Instant.now().plusSeconds(600));
+    when(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).thenReturn(presigned);
+  }
+
+  @Test
+  void confirmPresignedUpload_returnsConflictUntilObjectExists() {
+    PresignedUploadResponseDto reserved = fileS3UploadService.createPresignedUpload(request(), uploader);
+    assertThat(reserved.getFileId()).isEqualTo(FILE_ID);
+
+    // 아직 PUT 하지 않았으면 409
+    when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(NoSuchKeyException.builder().build());
+    assertThatThrownBy(() -> fileS3UploadService.confirmPresignedUpload(FILE_ID, uploader))
+        .isInstanceOf(CustomException.class)
+        .extracting(e -> ((CustomException) e).getErrorCode())
+        .isEqualTo(ErrorCode.FILE_NOT_UPLOADED);
+    verify(fileService, never()).updateStatus(FILE_ID, FileStatus.READY);
+
+    // 예약과 같은 크기, 형식으로 올라온 뒤에는 READY
+    doReturn(HeadObjectResponse.builder()
+        .contentLength(SIZE)
+        .contentType(CONTENT_TYPE)
+        .build())
+        .when(s3Client).headObject(any(HeadObjectRequest.class));
+    File confirmed = fileS3UploadService.confirmPresignedUpload(FILE_ID, uploader);
+
+    assertThat(confirmed.getStatus()).isEqualTo(FileStatus.READY);
+    verify(fileService).updateStatus(FILE_ID, FileStatus.READY);
+  }
+
+  @Test
+  void confirmPresignedUpload_rejectsOtherUser() {
+    fileS3UploadService.createPresignedUpload(request(), uploader);
+    User other = User.builder().userId(20L).username("other").build();
+
+    assertThatThrownBy(() -> fileS3UploadService.confirmPresignedUpload(FILE_ID, other))
+        .isInstanceOf(CustomException.class)
+        .extracting(e -> ((CustomException) e).getErrorCode())
+        .isEqualTo(ErrorCode.ACCESS_DENIED);
+    verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+  }
+
+  @Test
+  void confirmPresignedUpload_rejectsDifferentSize() {
+    fileS3UploadService.createPresignedUpload(request(), uploader);
+    when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder()
+        .contentLength(SIZE * 2)
+        .contentType(CONTENT_TYPE)
+        .build());
+
+    assertThatThrownBy(() -> fileS3UploadService.confirmPresignedUpload(FILE_ID, uploader))
+        .isInstanceOf(CustomException.class)
+        .extracting(e -> ((CustomException) e).getErrorCode())
+        .isEqualTo(ErrorCode.FILE_UPLOAD_MISMATCH);
+    verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
+    verify(fileService).updateStatus(FILE_ID, FileStatus.FAILED);
+  }
+
+  @Test
+  void uploadAndSaveFileAsync_reusesFileSavedConcurrently() {
+    File winner = new File();
+    winner.setFileId(2L);
+    winner.setStatus(FileStatus.READY);
+    // 사전 조회에는 없었지만 저장 직전에 같은 내용이 먼저 저장되어 해시 고유 제약 충돌
+    when(fileService.findByContentHash(anyString())).thenReturn(Optional.empty(), Optional.of(winner));
+    when(fileService.savePending(anyString(), anyString(), anyString()))
+        .thenThrow(new DataIntegrityViolationException("duplicate content_hash"));
+    when(fileService.reuse(winner)).thenReturn(winner);
+
+    File saved = fileS3UploadService.uploadAndSaveFileAsync(imageFile());
+
+    assertThat(saved).isSameAs(winner);
+    verify(fileService, never()).savePending(anyString(), anyString(), isNull());
+    verify(s3AsyncClient, never()).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+  }
+
+  @Test
+  void uploadAndSaveFileAsync_savesWithoutHashWhenConcurrentFileIsPending() {
+    File pendingWinner = new File();
+    pendingWinner.setFileId(2L);
+    pendingWinner.setStatus(FileStatus.PENDING);
+    when(fileService.findByContentHash(anyString())).thenReturn(Optional.empty(), Optional.of(pendingWinner));
+    when(fileService.savePending(anyString(), anyString(), anyString()))
+        .thenThrow(new DataIntegrityViolationException("duplicate content_hash"));
+    when(fileService.savePending(anyString(), anyString(), isNull())).thenAnswer(invocation -> {
+      File pending = new File();
+      pending.setFileId(3L);
+      pending.setFileName(invocation.getArgument(0));
+      pending.setStatus(FileStatus.PENDING);
+      return pending;
+    });
+    when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+        .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+    File saved = fileS3UploadService.uploadAndSaveFileAsync(imageFile());
+
+    assertThat(saved.getFileId()).isEqualTo(3L);
+    verify(s3AsyncClient).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+    verify(fileService).updateStatus(3L, FileStatus.READY);
+  }
+
+  private MockMultipartFile imageFile() {
+    return new MockMultipartFile("file", "photo.png", CONTENT_TYPE, new byte[]{1, 2, 3});
+  }
+
+  private PresignedUploadRequestDto request() {
+    PresignedUploadRequestDto request = new PresignedUploadRequestDto();
+    request.setFileName("photo.png");
+    request.setContentType(CONTENT_TYPE);
+    request.setSize(SIZE);
+    return request;
+  }
+}
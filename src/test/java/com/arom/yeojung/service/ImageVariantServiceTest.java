@@ -0,0 +1,71 @@
+package com.arom.yeojung.service;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.arom.yeojung.object.File;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.multipart.MultipartFile;
+
+class ImageVariantServiceTest {
+
+  private static final long MAX_PIXELS = 100L * 100;
+  private static final long MAX_BYTES = 1024L * 1024;
+
+  private final ImageVariantService imageVariantService = new ImageVariantService(
+      mock(FileS3UploadService.class), mock(FileService.class), true, 1, 4, MAX_PIXELS, MAX_BYTES, 0.85f,
+      new SimpleMeterRegistry());
+
+  @AfterEach
+  void tearDown() {
+    imageVariantService.destroy();
+  }
+
+  @Test
+  void generate_skipsOversizedFileWithoutReadingBytes() throws Exception {
+    MultipartFile source = mock(MultipartFile.class);
+    when(source.getContentType()).thenReturn("image/png");
+    when(source.getSize()).thenReturn(MAX_BYTES + 1);
+
+    imageVariantService.generate(file(), source);
+
+    verify(source, never()).getInputStream();
+    verify(source, never()).getBytes();
+  }
+
+  @Test
+  void generate_skipsImageOverPixelLimitWithoutReadingBytes() throws Exception {
+    byte[] png = png(200, 200);
+    MultipartFile source = mock(MultipartFile.class);
+    when(source.getContentType()).thenReturn("image/png");
+    when(source.getSize()).thenReturn((long) png.length);
+    when(source.getInputStream()).thenReturn(new ByteArrayInputStream(png));
+
+    imageVariantService.generate(file(), source);
+
+    // 헤더만 읽고 원본 전체는 읽지 않음
+    verify(source).getInputStream();
+    verify(source, never()).getBytes();
+  }
+
+  private File file() {
+    File file = new File();
+    file.setFileId(1L);
+    file.setFileName("photo.png");
+    return file;
+  }
+
+  private byte[] png(int width, int height) throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", output);
+    return output.toByteArray();
+  }
+}
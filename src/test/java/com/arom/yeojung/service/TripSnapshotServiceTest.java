@@ -0,0 +1,106 @@
+package com.arom.yeojung.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.arom.yeojung.object.Budget;
+import com.arom.yeojung.object.BudgetType;
+import com.arom.yeojung.object.DailyPlan;
+import com.arom.yeojung.object.SubPlan;
+import com.arom.yeojung.object.TotalPlan;
+import com.arom.yeojung.object.User;
+import com.arom.yeojung.object.UserPlan;
+import com.arom.yeojung.object.constants.PlanRole;
+import com.arom.yeojung.object.dto.TripDaySnapshotDTO;
+import com.arom.yeojung.object.dto.TripSnapshotResponseDTO;
+import com.arom.yeojung.object.dto.TripSubPlanSnapshotDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TripSnapshotService.class, PlanMembershipAuthorizer.class, SimpleMeterRegistry.class})
+class TripSnapshotServiceTest {
+
+  private static final int DAY_COUNT = 10;
+  private static final int SUB_PLANS_PER_DAY = 6;
+  private static final int BUDGETS_PER_SUB_PLAN = 2;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private TripSnapshotService tripSnapshotService;
+
+  @Test
+  void getTripSnapshot_usesFixedNumberOfStatements() {
+    User user = User.builder().username("planner").password("password").build();
+    entityManager.persist(user);
+
+    LocalDate startDate = LocalDate.of(2025, 7, 1);
+    TotalPlan totalPlan = new TotalPlan();
+    totalPlan.setTitle("trip");
+    totalPlan.setStartDate(startDate);
+    totalPlan.setEndDate(startDate.plusDays(DAY_COUNT - 1));
+    totalPlan.setTravelDuration(DAY_COUNT);
+    entityManager.persist(totalPlan);
+
+    UserPlan owner = new UserPlan();
+    owner.setUser(user);
+    owner.setTotalPlan(totalPlan);
+    owner.setRole(PlanRole.OWNER);
+    entityManager.persist(owner);
+
+    // 일차를 역순으로 저장해 정렬까지 확인
+    for (int day = DAY_COUNT; day >= 1; day--) {
+      DailyPlan dailyPlan = new DailyPlan();
+      dailyPlan.setTotalPlan(totalPlan);
+      dailyPlan.setDailyPlanDate(startDate.plusDays(day - 1));
+      dailyPlan.setTripDayNumber(day);
+      entityManager.persist(dailyPlan);
+
+      for (int i = SUB_PLANS_PER_DAY; i >= 1; i--) {
+        SubPlan subPlan = new SubPlan();
+        subPlan.setDailyPlan(dailyPlan);
+        subPlan.setCreatedBy(user);
+        subPlan.setSubPlanTitle("sub-" + day + "-" + i);
+        subPlan.setSubPlanTime(LocalTime.of(8 + i, 0));
+        entityManager.persist(subPlan);
+
+        for (int b = 0; b < BUDGETS_PER_SUB_PLAN; b++) {
+          entityManager.persist(Budget.builder()
+              .budgetName("budget-" + b)
+              .budgetAmount(1000L * (b + 1))
+              .budgetType(BudgetType.DAILY)
+              .subPlan(subPlan)
+              .build());
+        }
+      }
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    Statistics statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    TripSnapshotResponseDTO snapshot = tripSnapshotService.getTripSnapshot(totalPlan.getTotalPlanId(), user);
+
+    // 멤버 권한, TotalPlan, DailyPlan, SubPlan, Budget 각 한 번씩
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+    assertThat(snapshot.getDailyPlans()).hasSize(DAY_COUNT);
+    assertThat(snapshot.getDailyPlans()).extracting(TripDaySnapshotDTO::getTripDayNumber).isSorted();
+
+    TripDaySnapshotDTO firstDay = snapshot.getDailyPlans().get(0);
+    assertThat(firstDay.getSubPlans()).hasSize(SUB_PLANS_PER_DAY);
+    assertThat(firstDay.getSubPlans()).extracting(TripSubPlanSnapshotDTO::getSubPlanTime).isSorted();
+    assertThat(firstDay.getSubPlans().get(0).getSubPlanTitle()).isEqualTo("sub-1-1");
+    assertThat(firstDay.getSubPlans().get(0).getBudgets()).hasSize(BUDGETS_PER_SUB_PLAN);
+  }
+}